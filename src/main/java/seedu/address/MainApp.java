@@ -25,8 +25,10 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.KeyValueAddressBookStorage;
+import seedu.address.storage.SegmentedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -59,17 +61,42 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs.getAddressBookFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, true);
 
         model = initModelManager(storage, userPrefs);
         logic = new LogicManager(model, storage);
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage for the address book at {@code addressBookFilePath}, of the type chosen in {@code config}.
+     * The first time the key-value store is used, the JSON data file is imported into it.
+     */
+    private AddressBookStorage initAddressBookStorage(Config config, Path addressBookFilePath) {
+        if (config.getStorageType() == Config.StorageType.KEY_VALUE) {
+            Path storeFile = KeyValueAddressBookStorage.pathFor(addressBookFilePath);
+            KeyValueAddressBookStorage keyValueStorage = new KeyValueAddressBookStorage(storeFile);
+            if (!Files.exists(storeFile) && Files.isRegularFile(addressBookFilePath)) {
+                try {
+                    keyValueStorage.importJson(addressBookFilePath);
+                } catch (DataLoadingException | IOException e) {
+                    logger.warning("Could not import " + addressBookFilePath + " into " + storeFile + ": " + e);
+                }
+            }
+            return keyValueStorage;
+        }
+        // a directory holds a segmented address book, for books too large to rewrite whole on every save
+        return Files.isDirectory(addressBookFilePath)
+                ? new SegmentedAddressBookStorage(addressBookFilePath)
+                : new JournaledAddressBookStorage(addressBookFilePath);
+    }
+
     private Model initModelManager(Storage storageArg, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storageArg.getAddressBookFilePath());
         ReadOnlyAddressBook initialData;
+        // Whether the data file holds exactly initialData, so that later saves can journal changes against it
+        boolean isDataFileInSync = false;
         try {
             var dataPath = storageArg.getAddressBookFilePath();
             if (!Files.exists(dataPath)) {
@@ -78,6 +105,7 @@ public class MainApp extends Application {
                 initialData = sample;
                 try {
                     storageArg.saveAddressBook(sample);
+                    isDataFileInSync = true;
                 } catch (AccessDeniedException ade) {
                     logger.warning(String.format("Could not save sample data to %s due to insufficient permissions.",
                             dataPath));
@@ -88,6 +116,7 @@ public class MainApp extends Application {
                 seedu.address.storage.LoadReport report = storageArg.readAddressBookWithReport();
                 initialData = report.getModelData().getAddressBook();
                 logger.info("Invalid entries detected: " + report.getInvalids().size());
+                isDataFileInSync = report.getInvalids().isEmpty();
             }
 
         } catch (seedu.address.commons.exceptions.DataLoadingException e) {
@@ -98,7 +127,11 @@ public class MainApp extends Application {
             logger.warning("Unexpected error loading data: " + e.getMessage());
             initialData = new seedu.address.model.AddressBook();
         }
-        return new ModelManager(initialData, userPrefs);
+        Model initialModel = new ModelManager(initialData, userPrefs);
+        if (isDataFileInSync) {
+            storageArg.trackAddressBook(initialModel.getAddressBook());
+        }
+        return initialModel;
     }
 
     private void initLogging(Config cfg) {
@@ -143,14 +176,16 @@ public class MainApp extends Application {
         java.util.Set<Integer> badIdx = report.getInvalids().stream()
                 .map(seedu.address.storage.LoadReport.InvalidPersonEntry::index)
                 .collect(java.util.stream.Collectors.toCollection(java.util.LinkedHashSet::new));
-        seedu.address.model.AddressBook filtered = new seedu.address.model.AddressBook();
         java.util.List<seedu.address.model.person.Person> persons =
                 report.getModelData().getAddressBook().getPersonList();
+        java.util.List<seedu.address.model.person.Person> valid = new java.util.ArrayList<>(persons.size());
         for (int i = 0; i < persons.size(); i++) {
             if (!badIdx.contains(i)) {
-                filtered.addPerson(persons.get(i));
+                valid.add(persons.get(i));
             }
         }
+        seedu.address.model.AddressBook filtered = new seedu.address.model.AddressBook();
+        filtered.addPersons(valid);
         return filtered;
     }
 
@@ -287,5 +322,25 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background, saving it again " + StringUtil.getDetails(e));
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException retryFailure) {
+                logger.severe("Failed to save data " + StringUtil.getDetails(retryFailure));
+            }
+        }
+        try {
+            storage.stopExports();
+        } catch (IOException e) {
+            logger.severe("Stopped before every export was written " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.compactAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to compact data file " + StringUtil.getDetails(e));
+        }
     }
 }
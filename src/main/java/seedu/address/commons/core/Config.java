@@ -14,9 +14,20 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * How the address book is kept on disk.
+     */
+    public enum StorageType {
+        /** A JSON data file, or a directory of JSON segment files. */
+        JSON,
+        /** An embedded key-value store next to the JSON data file, which is imported into it once. */
+        KEY_VALUE
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private StorageType storageType = StorageType.JSON;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +45,14 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public StorageType getStorageType() {
+        return storageType;
+    }
+
+    public void setStorageType(StorageType storageType) {
+        this.storageType = storageType;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +66,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && Objects.equals(storageType, otherConfig.storageType);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, storageType);
     }
 
     @Override
@@ -60,6 +80,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("storageType", storageType)
                 .toString();
     }
 
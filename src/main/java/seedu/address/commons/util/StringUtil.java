@@ -38,6 +38,24 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the case-folded form of {@code word}, such that two words are equal ignoring case
+     * (as defined by {@link String#equalsIgnoreCase(String)}) if and only if their folded forms are equal.
+     * Useful as a hash key for case-insensitive lookups.
+     *   <br>examples:<pre>
+     *       foldCase("ABc").equals(foldCase("abC")) == true
+     *       foldCase("ABc").equals(foldCase("AB")) == false
+     *       </pre>
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        StringBuilder folded = new StringBuilder(word.length());
+        word.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,111 @@
+package seedu.address.commons.util;
+
+/**
+ * Hand-written equivalents of the simple validation regexes used by the model's value classes.
+ * Each method accepts exactly the strings its regex accepts, without compiling a {@code Pattern} or allocating a
+ * {@code Matcher}. Every field of every entry is validated when a data file is loaded, so this adds up.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code test} matches {@code \d{minLength,}}, i.e. it has at least {@code minLength} characters
+     * and all of them are ASCII digits.
+     *
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean isAsciiDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code \p{Alnum}+}, i.e. it is non-empty and every character is an ASCII
+     * letter or digit.
+     *
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean isAsciiAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [\p{L}][\p{L} ]*}, or {@code [\p{L}\p{N}][\p{L}\p{N} ]*} when
+     * {@code allowNumbers} is true. That is, it starts with a letter (or number) and continues with letters
+     * (or numbers) and spaces.
+     *
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean isLettersAndSpaces(String test, boolean allowNumbers) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        int i = 0;
+        while (i < test.length()) {
+            int codePoint = test.codePointAt(i);
+            boolean isWordCharacter = Character.isLetter(codePoint) || allowNumbers && isNumber(codePoint);
+            if (!isWordCharacter && (i == 0 || codePoint != ' ')) {
+                return false;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} matches {@code [^\s].*}, i.e. it does not start with whitespace and has no line
+     * terminators.
+     *
+     * @throws NullPointerException if {@code test} is null.
+     */
+    public static boolean isSingleLineStartingWithNonWhitespace(String test) {
+        if (test.isEmpty() || isRegexWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code codePoint} is matched by {@code \p{N}}.
+     */
+    private static boolean isNumber(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.DECIMAL_DIGIT_NUMBER || type == Character.LETTER_NUMBER
+                || type == Character.OTHER_NUMBER;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}.
+     */
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is a line terminator that {@code .} does not match.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
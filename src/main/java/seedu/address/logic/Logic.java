@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -38,6 +39,12 @@ public interface Logic {
      */
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the latest status message from work that commands carry on in the background, such as a large
+     * export. The value may change on any thread.
+     */
+    ObservableValue<String> getStatusMessage();
+
     /**
      * Returns the user prefs' GUI settings.
      */
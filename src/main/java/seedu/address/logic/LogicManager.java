@@ -5,6 +5,9 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -21,7 +24,10 @@ import seedu.address.storage.Storage;
 /**
  * The main logic layer entry point.
  * Parses user input into commands and persists model updates via {@link Storage}.
- * Only mutating commands trigger saving to storage.
+ * Only mutating commands that actually changed the address book trigger saving to storage, and each such command
+ * records the state it left the address book in, so that it can be undone.
+ * The storage may write the save after the command returns, in which case a failure to write it is shown as the
+ * status message as soon as it happens, and reported again by a later command.
  */
 public class LogicManager implements Logic {
 
@@ -29,11 +35,17 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** A version the address book never has, so that the next change is saved whatever its version. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final StringProperty statusMessage = new SimpleStringProperty("");
+    /** The version of the address book last handed to storage. */
+    private long savedVersion;
 
     /**
      * Creates a {@code LogicManager}.
@@ -44,7 +56,9 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        this.addressBookParser = new AddressBookParser(storage);
+        this.addressBookParser = new AddressBookParser(storage, statusMessage::set);
+        this.savedVersion = model.getAddressBookVersion();
+        storage.setSaveFailureListener(e -> statusMessage.set(saveFailureMessage(e)));
     }
 
     @Override
@@ -53,35 +67,27 @@ public class LogicManager implements Logic {
 
         Command command = addressBookParser.parseCommand(commandText);
         CommandResult commandResult = command.execute(model);
+        if (command.isMutating()) {
+            model.commitAddressBook();
+        }
 
-        if (isMutatingCommand(command)) {
+        if (command.isMutating() && model.getAddressBookVersion() != savedVersion) {
+            savedVersion = model.getAddressBookVersion();
             try {
-                storage.saveAddressBook(model.getAddressBook());
-            } catch (AccessDeniedException e) {
-                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+                storage.requestSaveAddressBook(model.getAddressBook());
             } catch (IOException ioe) {
-                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+                savedVersion = UNSAVED_VERSION;
+                throw new CommandException(saveFailureMessage(ioe), ioe);
             }
         }
 
         return commandResult;
     }
 
-    /**
-     * Determines if the given command modifies the AddressBook data.
-     * Non-mutating commands (such as list, find, help, exit) do not trigger saving.
-     */
-    private boolean isMutatingCommand(Command command) {
-        String name = command.getClass().getSimpleName();
-        return name.equals("AddCommand")
-                || name.equals("EditCommand")
-                || name.equals("DeleteCommand")
-                || name.equals("ClearCommand")
-                || name.equals("FixInvalidCommand")
-                || name.equals("ImportCommand")
-                || name.equals("ExportCommand")
-                || name.equals("TagCommand")
-                || name.equals("UntagCommand");
+    private static String saveFailureMessage(IOException e) {
+        return e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
@@ -99,6 +105,11 @@ public class LogicManager implements Logic {
         return model.getAddressBookFilePath();
     }
 
+    @Override
+    public ObservableValue<String> getStatusMessage() {
+        return statusMessage;
+    }
+
     @Override
     public GuiSettings getGuiSettings() {
         return model.getGuiSettings();
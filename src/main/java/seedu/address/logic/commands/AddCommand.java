@@ -63,6 +63,11 @@ public class AddCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -20,4 +20,9 @@ public class ClearCommand extends Command {
         model.setAddressBook(new AddressBook());
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
 }
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book, so that it has to be saved afterwards.
+     * It is saved only if it did change.
+     */
+    public boolean isMutating() {
+        return false;
+    }
+
 }
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -27,6 +26,9 @@ public class DeleteCommand extends Command {
             + "         " + COMMAND_WORD + " e/example@email.com";
 
     public static final String MESSAGE_DELETE_PERSON_SUCCESS = "Deleted Person: %1$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND_BY_EMAIL = "No person found with the specified email.";
+    public static final String MESSAGE_MULTIPLE_PERSONS_WITH_EMAIL =
+            "%1$d persons share the email %2$s. Delete the intended person by index instead.";
 
     private final Index targetIndex;
     private final Email targetEmail;
@@ -67,20 +69,32 @@ public class DeleteCommand extends Command {
             model.deletePerson(personToDelete);
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         } else if (targetEmail != null) {
-            Optional<Person> personToDelete = model.getFilteredPersonList().stream()
-                    .filter(p -> p.getEmail().equals(targetEmail))
-                    .findFirst();
-            if (personToDelete.isEmpty()) {
-                throw new CommandException("No person found with the specified email.");
+            // Looked up through the model's email index, keeping only the persons in the displayed list, as
+            // deleting by index does. An email shared by several displayed persons is ambiguous and is rejected.
+            List<Person> matchingPersons = model.getPersonsByEmail(targetEmail).stream()
+                    .filter(model::isShown)
+                    .toList();
+            if (matchingPersons.isEmpty()) {
+                throw new CommandException(MESSAGE_PERSON_NOT_FOUND_BY_EMAIL);
             }
-            model.deletePerson(personToDelete.get());
-            return new CommandResult(
-                    String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete.get())));
+            if (matchingPersons.size() > 1) {
+                throw new CommandException(
+                        String.format(MESSAGE_MULTIPLE_PERSONS_WITH_EMAIL, matchingPersons.size(), targetEmail));
+            }
+
+            Person personToDelete = matchingPersons.get(0);
+            model.deletePerson(personToDelete);
+            return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
         } else {
             throw new CommandException("Invalid delete command.");
         }
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -108,6 +108,11 @@ public class EditCommand extends Command {
         return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedListing, updatedTags);
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,15 +2,20 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.util.stream.Collectors;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
-import seedu.address.model.tag.Tag;
+import seedu.address.storage.CsvPersonExporter;
+import seedu.address.storage.Storage;
 
 /**
  * Exports the address book contacts to a CSV file.
@@ -19,7 +24,10 @@ import seedu.address.model.tag.Tag;
  * Each contact is exported with the following fields: Name, Phone, Email, Address, Listing, Tags.
  * Tags are separated by semicolons in the CSV. Fields containing commas, quotes, or newlines
  * are properly escaped according to CSV rules.
- *
+ * <p>
+ * Given a storage, exports of at least {@link #BACKGROUND_THRESHOLD} contacts are handed to it to be written in
+ * the background, so that the command returns at once; their progress and outcome are reported to the status
+ * listener.
  */
 public class ExportCommand extends Command {
     /** The command word used in the CLI. */
@@ -36,17 +44,53 @@ public class ExportCommand extends Command {
     /** Message shown if export fails. */
     public static final String MESSAGE_FAILURE = "Failed to export contacts: %1$s";
 
+    /** Message shown when an export is started in the background. */
+    public static final String MESSAGE_STARTED = "Exporting %1$d contacts to %2$s...";
+
+    /** Message reporting how far a background export has got. */
+    public static final String MESSAGE_PROGRESS = "Exporting to %3$s: %1$d of %2$d contacts written";
+
+    /** The number of contacts from which an export is written in the background. */
+    public static final int BACKGROUND_THRESHOLD = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
     /** The name of the CSV file to export to (automatically appends ".csv"). */
     private final String filename;
 
+    /** Writes large exports in the background, or null if every export is written before the command returns. */
+    private final Storage storage;
+
+    /** Receives the progress and outcome of background exports, from the thread writing them, if there are any. */
+    private final Consumer<String> statusListener;
+
     /**
-     * Creates an {@code ExportCommand} with the specified CSV filename.
+     * Creates an {@code ExportCommand} with the specified CSV filename, which writes every export before it returns.
      *
      * @param filename The name of the file to export to (without ".csv").
      */
     public ExportCommand(String filename) {
         requireNonNull(filename);
         this.filename = filename + ".csv";
+        this.storage = null;
+        this.statusListener = null;
+    }
+
+    /**
+     * Creates an {@code ExportCommand} with the specified CSV filename, which has {@code storage} write large
+     * exports in the background and reports their progress to {@code statusListener}.
+     *
+     * @param filename The name of the file to export to (without ".csv").
+     * @param storage Writes large exports in the background.
+     * @param statusListener Receives status messages from the thread writing the export.
+     */
+    public ExportCommand(String filename, Storage storage, Consumer<String> statusListener) {
+        requireNonNull(filename);
+        requireNonNull(storage);
+        requireNonNull(statusListener);
+        this.filename = filename + ".csv";
+        this.storage = storage;
+        this.statusListener = statusListener;
     }
 
     /**
@@ -54,66 +98,69 @@ public class ExportCommand extends Command {
      * <p>
      * Writes all contacts in the filtered person list of the model to a CSV file
      * in the {@code data} folder. Creates the folder if it does not exist.
+     * Given a storage, large exports are written in the background from a copy of the list taken now, to a file
+     * that replaces any earlier export only once it is complete. When the list shows every
+     * person, the copy is a snapshot of the address book, taken without copying any person.
      *
      * @param model The model containing the address book data.
-     * @return A {@code CommandResult} with a success message.
+     * @return A {@code CommandResult} with a success message, or one saying the export has started.
      * @throws CommandException If an {@code IOException} occurs during file writing.
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        var peopleToExport = model.getFilteredPersonList();
+        List<Person> peopleToExport = copyFilteredPersons(model);
 
         if (peopleToExport.isEmpty()) {
             throw new CommandException("No contacts to export.");
         }
 
-        String folder = System.getProperty("user.dir") + "/data/";
-        File file = new File(folder + filename);
+        Path file = Paths.get(System.getProperty("user.dir"), "data", filename);
 
-        File parentFolder = file.getParentFile();
-        if (!parentFolder.exists()) {
-            parentFolder.mkdirs();
-        }
-
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.append("Name,Phone,Email,Address,Listing,Tags\n");
-
-            for (Person p : model.getFilteredPersonList()) {
-                writer.append(escapeCsv(p.getName().toString())).append(",");
-                writer.append(escapeCsv(p.getPhone().toString())).append(",");
-                writer.append(escapeCsv(p.getEmail().toString())).append(",");
-                writer.append(escapeCsv(p.getAddress().toString())).append(",");
-                writer.append(escapeCsv(p.getListing().toString())).append(",");
-                writer.append(escapeCsv(
-                        p.getTags().stream().map(Tag::toString).collect(Collectors.joining(";"))
-                )).append("\n");
+        if (storage == null || peopleToExport.size() < BACKGROUND_THRESHOLD) {
+            try {
+                CsvPersonExporter.write(peopleToExport, file, written -> {});
+            } catch (IOException e) {
+                throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()));
             }
+            return new CommandResult(String.format(MESSAGE_SUCCESS, peopleToExport.size(), filename));
+        }
 
-            return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredPersonList().size(), filename));
+        exportInBackground(peopleToExport, file);
+        return new CommandResult(String.format(MESSAGE_STARTED, peopleToExport.size(), filename));
+    }
 
-        } catch (IOException e) {
-            throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()));
+    /**
+     * Returns an unchangeable copy of the filtered person list of {@code model}. The filtered list keeps the order
+     * of the address book, so if it is as long as the address book it holds every person, and a snapshot of the
+     * address book serves as the copy.
+     */
+    private static List<Person> copyFilteredPersons(Model model) {
+        List<Person> filtered = model.getFilteredPersonList();
+        AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+        if (filtered.size() == snapshot.getPersonList().size()) {
+            return snapshot.getPersonList();
         }
+        return List.copyOf(filtered);
     }
 
     /**
-     * Escapes CSV special characters in a string.
-     * <p>
-     * If the value contains a comma, double quote, or newline, it is wrapped in quotes
-     * and any internal quotes are doubled according to CSV rules.
-     *
-     * @param value The string value to escape.
-     * @return The escaped string ready for CSV output.
+     * Hands {@code peopleToExport} to the storage to be written to {@code file} in the background, reporting the
+     * progress and outcome to the status listener.
      */
-    private String escapeCsv(String value) {
-        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
-            value = value.replace("\"", "\"\"");
-            return "\"" + value + "\"";
-        } else {
-            return value;
-        }
+    private void exportInBackground(List<Person> peopleToExport, Path file) {
+        int total = peopleToExport.size();
+        storage.requestExportPersons(peopleToExport, file,
+                written -> statusListener.accept(String.format(MESSAGE_PROGRESS, written, total, filename)))
+                .whenComplete((ignored, failure) -> {
+                    if (failure == null) {
+                        statusListener.accept(String.format(MESSAGE_SUCCESS, total, filename));
+                    } else {
+                        logger.warning("Export to " + file + " failed: " + failure);
+                        statusListener.accept(String.format(MESSAGE_FAILURE, failure.getMessage()));
+                    }
+                });
     }
 
     @Override
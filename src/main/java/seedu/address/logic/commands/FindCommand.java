@@ -12,6 +12,8 @@ import seedu.address.model.person.Person;
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * The model looks the persons matching a name search up in the address book's name index, so the cost follows the
+ * number of matches; a tag search tests each person against the tag index.
  */
 public class FindCommand extends Command {
 
@@ -50,7 +50,7 @@ public class FixInvalidCommand extends Command {
             LoadReport report = storage.overwriteRawEntryAtIndex(jsonIndex, corrected);
 
             // Replace the in-memory model with the fully reloaded valid content
-            model.setAddressBook(report.getModelData().getAddressBook());
+            model.setAddressBook(report.getModelData().getReadOnlyAddressBook());
 
             return new CommandResult("Fixed invalid entry at index " + jsonIndex + ".");
         } catch (Exception e) {
@@ -58,6 +58,11 @@ public class FixInvalidCommand extends Command {
         }
     }
 
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.LoadReport;
+import seedu.address.storage.PersonImporter;
+
+/**
+ * Imports contacts from a CSV file, in the columns written by {@link ExportCommand}, or from an address book JSON
+ * data file.
+ * <p>
+ * The file is read from the {@code data} folder relative to the project root. Its rows are validated as they are
+ * read; rows that are invalid, repeat an earlier row, or name a contact already in the address book are skipped and
+ * listed in the result. The remaining contacts are added to the address book in a single update, and so saved once.
+ */
+public class ImportCommand extends Command {
+    /** The command word used in the CLI. */
+    public static final String COMMAND_WORD = "import";
+
+    /** Usage message explaining how to use the command. */
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports contacts from a CSV or JSON file "
+            + "in the data folder.\n"
+            + "Parameters: FILENAME (ending in .csv or .json)\n"
+            + "Example: " + COMMAND_WORD + " clients.csv";
+
+    /** Message shown on a successful import. */
+    public static final String MESSAGE_SUCCESS = "Imported %1$d contacts from %2$s.";
+
+    /** Message shown if the file cannot be read at all. */
+    public static final String MESSAGE_FAILURE = "Failed to import contacts: %1$s";
+
+    /** Line summarising the rows that were skipped. */
+    public static final String MESSAGE_SKIPPED = "Skipped %1$d invalid row(s) and %2$d contact(s) already in the "
+            + "address book:";
+
+    /** Line describing an invalid row, numbered from 1 for the first contact in the file, after any header. */
+    public static final String MESSAGE_INVALID_ROW = "Row %1$d: %2$s";
+
+    /** Line describing a contact already in the address book. */
+    public static final String MESSAGE_EXISTING_PERSON = "Already in the address book: %1$s";
+
+    /** The most skipped rows described in the result. */
+    public static final int MAX_LISTED_SKIPS = 10;
+
+    /** The name of the file to import, in the data folder. */
+    private final String filename;
+
+    /**
+     * Creates an {@code ImportCommand} that imports the file {@code filename} in the data folder.
+     */
+    public ImportCommand(String filename) {
+        requireNonNull(filename);
+        this.filename = filename;
+    }
+
+    /**
+     * Executes the import command.
+     *
+     * @param model The model to add the imported contacts to.
+     * @return A {@code CommandResult} saying how many contacts were imported and which rows were skipped.
+     * @throws CommandException If the file cannot be read or is not well-formed.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Path file = Paths.get(System.getProperty("user.dir"), "data", filename);
+        LoadReport report;
+        try {
+            report = PersonImporter.read(file);
+        } catch (DataLoadingException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            throw new CommandException(String.format(MESSAGE_FAILURE, cause.getMessage()), e);
+        }
+
+        List<Person> toAdd = new ArrayList<>();
+        List<Person> existing = new ArrayList<>();
+        for (Person person : report.getModelData().getAddressBook().getPersonList()) {
+            if (model.hasPerson(person)) {
+                existing.add(person);
+            } else {
+                toAdd.add(person);
+            }
+        }
+        model.addPersons(toAdd);
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, toAdd.size(), filename));
+        List<LoadReport.InvalidPersonEntry> invalids = report.getInvalids();
+        if (!invalids.isEmpty() || !existing.isEmpty()) {
+            result.append('\n').append(String.format(MESSAGE_SKIPPED, invalids.size(), existing.size()));
+            int listed = 0;
+            for (int i = 0; i < invalids.size() && listed < MAX_LISTED_SKIPS; i++, listed++) {
+                result.append('\n')
+                        .append(String.format(MESSAGE_INVALID_ROW, invalids.get(i).index() + 1,
+                                invalids.get(i).reason()));
+            }
+            for (int i = 0; i < existing.size() && listed < MAX_LISTED_SKIPS; i++, listed++) {
+                result.append('\n').append(String.format(MESSAGE_EXISTING_PERSON, existing.get(i).getName()));
+            }
+            if (invalids.size() + existing.size() > listed) {
+                result.append("\n...");
+            }
+        }
+        return new CommandResult(result.toString());
+    }
+
+    @Override
+    public boolean isMutating() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherCommand = (ImportCommand) other;
+        return filename.equals(otherCommand.filename);
+    }
+}
@@ -2,13 +2,33 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.function.Consumer;
+
 import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.Storage;
 
 /**
  * Parses input arguments and creates a new ExportCommand object
  */
 public class ExportCommandParser implements Parser<ExportCommand> {
+
+    private final Storage storage;
+    private final Consumer<String> statusListener;
+
+    /**
+     * Creates a parser whose commands have {@code storage} write large exports in the background and report their
+     * progress to {@code statusListener}. If either is null, the commands write every export before returning.
+     */
+    public ExportCommandParser(Storage storage, Consumer<String> statusListener) {
+        this.storage = storage;
+        this.statusListener = statusListener;
+    }
+
+    public ExportCommandParser() {
+        this(null, null);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the ExportCommand
      * and returns an ExportCommand object for execution.
@@ -26,7 +46,9 @@ public class ExportCommandParser implements Parser<ExportCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
         }
 
-        return new ExportCommand(trimmedArgs);
+        return storage == null || statusListener == null
+                ? new ExportCommand(trimmedArgs)
+                : new ExportCommand(trimmedArgs, storage, statusListener);
     }
 
 }
@@ -55,7 +55,7 @@ public class FixInvalidCommandParser implements Parser<FixInvalidCommand> {
         Phone phone = new Phone(argMultimap.getValue(PREFIX_PHONE).get());
         Email email = new Email(argMultimap.getValue(PREFIX_EMAIL).get());
         Address address = new Address(argMultimap.getValue(PREFIX_ADDRESS).get());
-        Listing listing = new Listing(argMultimap.getValue(PREFIX_LISTING).get());
+        Listing listing = Listing.of(argMultimap.getValue(PREFIX_LISTING).get());
 
         Person corrected = new Person(name, phone, email, address, listing, new java.util.HashSet<>());
 
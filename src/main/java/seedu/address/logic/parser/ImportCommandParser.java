@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.PersonImporter;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     *
+     * @param args The user input after the "import" command
+     * @return ImportCommand ready to execute
+     * @throws ParseException if the user input is not the name of a .csv or .json file
+     */
+    @Override
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        try {
+            if (trimmedArgs.isEmpty() || !PersonImporter.isSupported(Paths.get(trimmedArgs))) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+            }
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        return new ImportCommand(trimmedArgs);
+    }
+
+}
@@ -108,7 +108,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -118,7 +118,7 @@ public class ParserUtil {
     public static Listing parseListing(String listing) throws ParseException {
         requireNonNull(listing);
         String trimmedListing = listing.trim();
-        return new Listing(trimmedListing);
+        return Listing.of(trimmedListing);
     }
 
     /**
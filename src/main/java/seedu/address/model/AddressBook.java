@@ -3,22 +3,41 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.property.Property;
 import seedu.address.model.property.UniquePropertyList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Alongside its observable lists, the address book keeps persistent copies of its persons and properties, updated
+ * with every change to the lists in O(log n) time per element changed. A {@link #snapshot()} shares them, so it is
+ * taken in constant time, and successive snapshots share all but the parts that changed in between.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniquePropertyList properties;
+    private PersistentList<Person> persistentPersons = PersistentList.empty();
+    private PersistentList<Property> persistentProperties = PersistentList.empty();
+    private long version;
+    /** The last snapshot taken, handed out again until the version changes. */
+    private AddressBookSnapshot latestSnapshot;
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -29,6 +48,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         properties = new UniquePropertyList();
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                persistentPersons = persistentPersons.with(change));
+        properties.asUnmodifiableObservableList().addListener((ListChangeListener<Property>) change ->
+                persistentProperties = persistentProperties.with(change));
     }
 
     public AddressBook() {}
@@ -49,15 +72,37 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        version++;
+    }
+
+    /**
+     * Replaces the contents of the property list with {@code properties}.
+     * {@code properties} must not contain duplicate properties.
+     */
+    public void setProperties(List<Property> properties) {
+        this.properties.setProperties(properties);
+        version++;
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The person list is brought in line with {@code newData} through targeted changes, so only the persons that
+     * differ are added, removed or replaced. A list that already has the same contents is left untouched.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-
-        setPersons(newData.getPersonList());
+        if (!getPersonList().equals(newData.getPersonList())) {
+            persons.setPersonsIncrementally(newData.getPersonList());
+            version++;
+        }
+        if (!getPropertyList().equals(newData.getPropertyList())) {
+            setProperties(newData.getPropertyList());
+        }
+        if (newData instanceof AddressBookSnapshot snapshot) {
+            // the contents are now equal, so share the snapshot's structure with the snapshots still to be taken
+            persistentPersons = snapshot.getPersistentPersons();
+            persistentProperties = snapshot.getPersistentProperties();
+        }
     }
 
     //// person-level operations
@@ -70,12 +115,93 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person in the address book named {@code name}, if there is one.
+     */
+    public Optional<Person> getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.getPersonByName(name);
+    }
+
+    /**
+     * Returns true if a person with the given {@code email} exists in the address book.
+     */
+    public boolean hasPersonWithEmail(Email email) {
+        requireNonNull(email);
+        return persons.containsEmail(email);
+    }
+
+    /**
+     * Returns the persons whose email is {@code email}, in the order they were added to the address book.
+     * Emails are not unique, so more than one person may be returned.
+     */
+    public List<Person> getPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return persons.getPersonsByEmail(email);
+    }
+
+    /**
+     * Returns a predicate that matches the same persons in the address book as {@code predicate}, answered from
+     * the indexes of the person list where one applies. Otherwise returns {@code predicate} itself.
+     */
+    public Predicate<Person> getIndexedPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return persons.getIndexedNamePredicate((NameContainsKeywordsPredicate) predicate);
+        }
+        if (predicate instanceof TagContainsKeywordsPredicate) {
+            return persons.getIndexedTagPredicate((TagContainsKeywordsPredicate) predicate);
+        }
+        return predicate;
+    }
+
+    /**
+     * Returns the position in the person list of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    public int getPositionOf(Person person) {
+        requireNonNull(person);
+        return persons.positionOf(person);
+    }
+
+    /**
+     * Returns the positions in the person list of the persons matching {@code predicate}, in ascending order, if they
+     * can be found from the indexes without testing every person. Returns null otherwise.
+     */
+    public int[] getPositionsMatching(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate namePredicate) {
+            return persons.getPositionsMatching(namePredicate);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of persons in the address book carrying {@code tag}.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return persons.countPersonsWithTag(tag);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        version++;
+    }
+
+    /**
+     * Adds {@code persons} to the address book as a single change to the person list.
+     * None of them may already exist in the address book, nor share an identity with another of them.
+     */
+    public void addPersons(List<Person> persons) {
+        if (persons.isEmpty()) {
+            return;
+        }
+        this.persons.addAll(persons);
+        version++;
     }
 
     /**
@@ -87,6 +213,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (!editedPerson.equals(target)) {
+            version++;
+        }
     }
 
     /**
@@ -95,6 +224,34 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        version++;
+    }
+
+    /**
+     * Removes every person in the address book matching {@code predicate}, as a single change to the person list.
+     *
+     * @return the persons removed, in the order they were in the address book.
+     */
+    public List<Person> removePersons(Predicate<? super Person> predicate) {
+        List<Person> removed = persons.removeAll(predicate);
+        if (!removed.isEmpty()) {
+            version++;
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces each person in the address book with the result of applying {@code mapper} to it, as a single change
+     * to the person list. The mapped persons must not share an identity with one another.
+     *
+     * @return the number of persons replaced.
+     */
+    public int replacePersons(UnaryOperator<Person> mapper) {
+        int replacedCount = persons.replaceAll(mapper);
+        if (replacedCount > 0) {
+            version++;
+        }
+        return replacedCount;
     }
 
     /**
@@ -119,6 +276,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addProperty(Property property) {
         properties.add(property);
+        version++;
     }
 
     /**
@@ -135,6 +293,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setProperty(Property target, Property editedProperty) {
         properties.setProperty(target, editedProperty);
+        if (!editedProperty.equals(target)) {
+            version++;
+        }
     }
 
     /**
@@ -147,6 +308,34 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeProperty(Property toRemove) {
         properties.remove(toRemove);
+        version++;
+    }
+
+    /**
+     * Returns the properties whose price lies between {@code minPrice} and {@code maxPrice}, both inclusive,
+     * in ascending order of price.
+     */
+    public List<Property> getPropertiesInPriceRange(int minPrice, int maxPrice) {
+        return properties.getPropertiesInPriceRange(minPrice, maxPrice);
+    }
+
+    /**
+     * Returns a number that grows every time the contents of this address book change, and only then.
+     * Replacing a person, a property or the whole address book with an equal one leaves it as it is.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an unchangeable copy of the current contents of this address book, taken in constant time and carrying
+     * the current version. Snapshots taken while the version stays the same are the same object.
+     */
+    public AddressBookSnapshot snapshot() {
+        if (latestSnapshot == null || latestSnapshot.getVersion() != version) {
+            latestSnapshot = AddressBookSnapshot.of(persistentPersons, persistentProperties, version);
+        }
+        return latestSnapshot;
     }
 
     //// util methods
@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * An unchangeable copy of the persons and properties of an address book at one moment.
+ * Persons and properties are themselves immutable, so a snapshot can be read from any thread while the address book
+ * it was taken from goes on changing. A snapshot of an {@link AddressBook} carries the version the address book had
+ * when it was taken, so that whoever writes it out can tell which state they wrote.
+ *
+ * The persons and properties are held in {@link PersistentList}s, so a snapshot of an {@link AddressBook} shares them
+ * with the address book and is taken without copying, and snapshots taken a few changes apart share almost all of
+ * their structure.
+ */
+public final class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    /** The version of a snapshot of an address book that does not keep versions. */
+    public static final long NO_VERSION = -1;
+
+    private final PersistentList<Person> persistentPersons;
+    private final PersistentList<Property> persistentProperties;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Property> properties;
+    private final long version;
+
+    private AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Property> properties, long version) {
+        this.persistentPersons = persons;
+        this.persistentProperties = properties;
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+        this.properties = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(properties.asList()));
+        this.version = version;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}. A snapshot of an {@link AddressBook} is taken
+     * in constant time; any other address book is copied, and the copy has no version.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        if (addressBook instanceof AddressBook) {
+            return ((AddressBook) addressBook).snapshot();
+        }
+        return new AddressBookSnapshot(PersistentList.of(addressBook.getPersonList()),
+                PersistentList.of(addressBook.getPropertyList()), NO_VERSION);
+    }
+
+    /**
+     * Returns a snapshot holding {@code persons} and {@code properties}, taken of an address book at {@code version}.
+     */
+    static AddressBookSnapshot of(PersistentList<Person> persons, PersistentList<Property> properties,
+            long version) {
+        return new AddressBookSnapshot(persons, properties, version);
+    }
+
+    /**
+     * Returns the version a snapshot of {@code addressBook} taken now would carry, without taking one.
+     */
+    public static long versionOf(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot snapshot) {
+            return snapshot.getVersion();
+        }
+        return addressBook instanceof AddressBook book ? book.getVersion() : NO_VERSION;
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken of, as given by
+     * {@link AddressBook#getVersion()}, or {@link #NO_VERSION} if it was copied from another kind of address book.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a snapshot like this one but with the person at {@code index} replaced by {@code person}, sharing all
+     * but O(log n) of this snapshot's structure. The result was not taken of an address book, so it has no version.
+     */
+    public AddressBookSnapshot withPerson(int index, Person person) {
+        requireNonNull(person);
+        return new AddressBookSnapshot(persistentPersons.set(index, person), persistentProperties, NO_VERSION);
+    }
+
+    /**
+     * Returns a snapshot like this one but with {@code person} inserted at {@code index}.
+     *
+     * @see #withPerson(int, Person)
+     */
+    public AddressBookSnapshot withPersonInserted(int index, Person person) {
+        requireNonNull(person);
+        return new AddressBookSnapshot(persistentPersons.insert(index, person), persistentProperties, NO_VERSION);
+    }
+
+    /**
+     * Returns a snapshot like this one but with the property at {@code index} replaced by {@code property}.
+     *
+     * @see #withPerson(int, Person)
+     */
+    public AddressBookSnapshot withProperty(int index, Property property) {
+        requireNonNull(property);
+        return new AddressBookSnapshot(persistentPersons, persistentProperties.set(index, property), NO_VERSION);
+    }
+
+    PersistentList<Person> getPersistentPersons() {
+        return persistentPersons;
+    }
+
+    PersistentList<Property> getPersistentProperties() {
+        return persistentProperties;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Property> getPropertyList() {
+        return properties;
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,23 +55,52 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that grows every time the contents of the address book change, and only then.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns true if a person with the given {@code email} exists in the address book.
+     */
+    boolean hasPersonWithEmail(Email email);
+
+    /**
+     * Returns the persons in the address book whose email is {@code email}, in the order they were added.
+     * Emails are not unique, so the list may contain more than one person.
+     */
+    List<Person> getPersonsByEmail(Email email);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes every person matching {@code predicate}, as a single change to the person list.
+     *
+     * @return the persons deleted, in the order they were in the address book.
+     */
+    List<Person> deletePersons(Predicate<? super Person> predicate);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons, in order, as a single change to the person list.
+     * None of them may already exist in the address book, nor share an identity with another of them.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -76,12 +108,64 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person with the result of applying {@code mapper} to it, as a single change to the person list.
+     * The mapped persons must not share an identity with one another.
+     *
+     * @return the number of persons replaced.
+     */
+    int replacePersons(UnaryOperator<Person> mapper);
+
+    /**
+     * Returns an unchangeable copy of the current contents of the address book, taken in constant time.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Records the current state of the address book as one that can be returned to by undoing later changes.
+     * Does nothing if the address book has not changed since the last state recorded.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an earlier state of the address book to return to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone state of the address book to return to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Returns the address book to the state before the last recorded change, recording any pending change first.
+     * There must be such a state.
+     */
+    void undoAddressBook();
+
+    /**
+     * Returns the address book to the state undone last. There must be such a state.
+     */
+    void redoAddressBook();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * Where the address book has an index for {@code predicate}, the persons are tested against the index.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns true if {@code person} is in the filtered person list, found without going through the list.
+     */
+    boolean isShown(Person person);
+
+    /**
+     * Returns a predicate that matches the same persons in the address book as {@code predicate},
+     * but is answered from the address book's indexes where one applies.
+     */
+    Predicate<Person> getIndexedPredicate(Predicate<Person> predicate);
 }
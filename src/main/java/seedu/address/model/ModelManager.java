@@ -4,24 +4,38 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * For undo and redo, the model keeps snapshots of the earlier and undone states of the address book, at most as many
+ * earlier states as the undo history depth in the user prefs. Snapshots share their structure with one another, so
+ * each costs only the parts of the address book that changed since the one before it.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final RefiningFilteredList filteredPersons;
+    /** The earlier states of the address book, latest first. */
+    private final Deque<AddressBookSnapshot> undoStates = new ArrayDeque<>();
+    /** The undone states of the address book, undone last first. */
+    private final Deque<AddressBookSnapshot> redoStates = new ArrayDeque<>();
+    private AddressBookSnapshot committedState;
+    private long committedVersion;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -33,7 +47,9 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new RefiningFilteredList(this.addressBook.getPersonList());
+        committedState = this.addressBook.snapshot();
+        committedVersion = this.addressBook.getVersion();
     }
 
     public ModelManager() {
@@ -87,23 +103,53 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public boolean hasPersonWithEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.hasPersonWithEmail(email);
+    }
+
+    @Override
+    public List<Person> getPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.getPersonsByEmail(email);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
     }
 
+    @Override
+    public List<Person> deletePersons(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        return addressBook.removePersons(predicate);
+    }
+
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -111,6 +157,71 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public int replacePersons(UnaryOperator<Person> mapper) {
+        requireNonNull(mapper);
+        return addressBook.replacePersons(mapper);
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        if (addressBook.getVersion() == committedVersion) {
+            return;
+        }
+        undoStates.push(committedState);
+        while (undoStates.size() > userPrefs.getUndoHistoryDepth()) {
+            undoStates.removeLast();
+        }
+        redoStates.clear();
+        committedState = addressBook.snapshot();
+        committedVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        if (addressBook.getVersion() != committedVersion) {
+            return userPrefs.getUndoHistoryDepth() > 0;
+        }
+        return !undoStates.isEmpty();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.getVersion() == committedVersion && !redoStates.isEmpty();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        commitAddressBook();
+        assert !undoStates.isEmpty() : "there is no state to undo to";
+        redoStates.push(committedState);
+        restore(undoStates.pop());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        assert canRedoAddressBook() : "there is no state to redo to";
+        undoStates.push(committedState);
+        restore(redoStates.pop());
+    }
+
+    /**
+     * Brings the address book to {@code state}, changing only the persons and properties that differ, and makes it
+     * the committed state.
+     */
+    private void restore(AddressBookSnapshot state) {
+        addressBook.resetData(state);
+        committedState = state;
+        committedVersion = addressBook.getVersion();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -122,10 +233,31 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * If {@code predicate} only narrows the current one, only the persons shown are tested again. Otherwise the
+     * persons matching a name search are looked up in the name index, so the cost follows the number of matches
+     * rather than the size of the address book; other predicates test the persons that could change sides.
+     * Persons are tested with the indexed form of {@code predicate}.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(predicate, addressBook.getIndexedPredicate(predicate), () ->
+                addressBook.getPositionsMatching(predicate));
+    }
+
+    @Override
+    public boolean isShown(Person person) {
+        requireNonNull(person);
+        int position = addressBook.getPositionOf(person);
+        return position != -1 && filteredPersons.getViewIndex(position) != -1;
+    }
+
+    @Override
+    public Predicate<Person> getIndexedPredicate(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        return addressBook.getIndexedPredicate(predicate);
     }
 
     @Override
@@ -13,4 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns the number of earlier states of the address book kept for undo.
+     */
+    int getUndoHistoryDepth();
+
 }
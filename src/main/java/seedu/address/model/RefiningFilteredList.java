@@ -0,0 +1,360 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+
+/**
+ * A view of the persons in a source list that match a predicate, like a {@code FilteredList}, that avoids re-testing
+ * every person when the predicate is replaced by a refinement of itself.
+ *
+ * A find predicate matches a person if any of its keywords match, so dropping keywords from a
+ * {@code NameContainsKeywordsPredicate} or {@code TagContainsKeywordsPredicate} can only narrow the matches, and
+ * adding keywords can only widen them. Narrowing re-tests only the persons currently in the view. Any other change
+ * of predicate takes the matching persons from the source indices supplied with the predicate, if there are any;
+ * otherwise widening tests only the persons outside the view, and any other change re-tests the whole source list.
+ *
+ * Changes to the source list are applied to the view incrementally: only the persons added or updated are tested.
+ */
+class RefiningFilteredList extends TransformationList<Person, Person> {
+
+    /** How the persons matched by a new predicate relate to those matched by the current one. */
+    private enum Refinement { SAME, NARROWER, WIDER, UNRELATED }
+
+    /** The source indices of the persons in the view, in ascending order; only the first {@code size} are used. */
+    private int[] filtered;
+    private int size;
+    private Predicate<? super Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+    private Predicate<? super Person> test = Model.PREDICATE_SHOW_ALL_PERSONS;
+
+    /**
+     * Creates a view of all the persons in {@code source}.
+     */
+    RefiningFilteredList(ObservableList<Person> source) {
+        super(source);
+        filtered = new int[Math.max(16, source.size())];
+        for (int i = 0; i < source.size(); i++) {
+            filtered[i] = i;
+        }
+        size = source.size();
+    }
+
+    /**
+     * Shows only the persons matching {@code predicate}. {@code test} must match the same persons as
+     * {@code predicate} and is what the persons are tested with; {@code predicate} itself is compared with the
+     * current predicate to decide which persons need testing.
+     */
+    void setPredicate(Predicate<? super Person> predicate, Predicate<? super Person> test) {
+        setPredicate(predicate, test, () -> null);
+    }
+
+    /**
+     * Shows only the persons matching {@code predicate}, as {@link #setPredicate(Predicate, Predicate)} does.
+     * {@code matches} supplies the source indices of the persons matching {@code predicate} in ascending order, or
+     * null if they cannot be found without testing every person. It is only asked for when narrowing the view is
+     * not enough.
+     */
+    void setPredicate(Predicate<? super Person> predicate, Predicate<? super Person> test,
+            Supplier<int[]> matches) {
+        requireAllNonNull(predicate, test, matches);
+        Refinement refinement = compare(this.predicate, predicate);
+        boolean wasShowingAll = this.predicate == Model.PREDICATE_SHOW_ALL_PERSONS;
+        this.predicate = predicate;
+        this.test = test;
+        if (refinement == Refinement.SAME) {
+            return;
+        }
+        if (refinement == Refinement.NARROWER && !wasShowingAll) {
+            narrow();
+            return;
+        }
+
+        int[] matching = matches.get();
+        if (matching != null) {
+            show(Arrays.copyOf(matching, Math.max(16, matching.length)), matching.length);
+        } else if (refinement == Refinement.NARROWER) {
+            narrow();
+        } else if (refinement == Refinement.WIDER) {
+            widen();
+        } else {
+            refilter();
+        }
+    }
+
+    Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public Person get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return getSource().get(filtered[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return filtered[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int position = Arrays.binarySearch(filtered, 0, size, index);
+        return position < 0 ? -1 : position;
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> c) {
+        beginChange();
+        while (c.next()) {
+            if (c.wasPermutated()) {
+                permute(c);
+            } else if (c.wasUpdated()) {
+                update(c.getFrom(), c.getTo());
+            } else {
+                replaceRange(c.getFrom(), c.getRemoved(), c.getAddedSize());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns how the persons matched by {@code to} relate to those matched by {@code from}, as far as can be told
+     * without testing any person.
+     */
+    private static Refinement compare(Predicate<? super Person> from, Predicate<? super Person> to) {
+        if (from.equals(to)) {
+            return Refinement.SAME;
+        }
+        if (from == Model.PREDICATE_SHOW_ALL_PERSONS) {
+            return Refinement.NARROWER;
+        }
+        if (to == Model.PREDICATE_SHOW_ALL_PERSONS) {
+            return Refinement.WIDER;
+        }
+        if (from instanceof NameContainsKeywordsPredicate fromName
+                && to instanceof NameContainsKeywordsPredicate toName) {
+            return compareKeywords(fromName.getKeywords(), toName.getKeywords());
+        }
+        if (from instanceof TagContainsKeywordsPredicate fromTag && to instanceof TagContainsKeywordsPredicate toTag) {
+            return compareKeywords(fromTag.getKeywords(), toTag.getKeywords());
+        }
+        return Refinement.UNRELATED;
+    }
+
+    private static Refinement compareKeywords(List<String> from, List<String> to) {
+        Set<String> fromKeywords = new HashSet<>(from);
+        Set<String> toKeywords = new HashSet<>(to);
+        if (fromKeywords.equals(toKeywords)) {
+            return Refinement.SAME;
+        }
+        if (fromKeywords.containsAll(toKeywords)) {
+            return Refinement.NARROWER;
+        }
+        if (toKeywords.containsAll(fromKeywords)) {
+            return Refinement.WIDER;
+        }
+        return Refinement.UNRELATED;
+    }
+
+    /**
+     * Drops the persons in the view that no longer match, testing only those persons.
+     */
+    private void narrow() {
+        beginChange();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Person person = getSource().get(filtered[i]);
+            if (test.test(person)) {
+                filtered[kept++] = filtered[i];
+            } else {
+                nextRemove(kept, person);
+            }
+        }
+        size = kept;
+        endChange();
+    }
+
+    /**
+     * Adds the persons outside the view that now match, testing only those persons.
+     */
+    private void widen() {
+        List<? extends Person> source = getSource();
+        int[] widened = new int[Math.max(filtered.length, source.size())];
+        int widenedSize = 0;
+        int next = 0;
+        beginChange();
+        for (int i = 0; i < source.size(); i++) {
+            if (next < size && filtered[next] == i) {
+                widened[widenedSize++] = i;
+                next++;
+            } else if (test.test(source.get(i))) {
+                widened[widenedSize] = i;
+                nextAdd(widenedSize, widenedSize + 1);
+                widenedSize++;
+            }
+        }
+        filtered = widened;
+        size = widenedSize;
+        endChange();
+    }
+
+    /**
+     * Tests every person in the source list again.
+     */
+    private void refilter() {
+        List<? extends Person> source = getSource();
+        int[] matching = new int[Math.max(filtered.length, source.size())];
+        int matchCount = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (test.test(source.get(i))) {
+                matching[matchCount++] = i;
+            }
+        }
+        show(matching, matchCount);
+    }
+
+    /**
+     * Replaces the view with the persons at the first {@code count} of {@code sourceIndices}, which are ascending.
+     * The persons removed are reported through a view of the old indices rather than a copy of them.
+     */
+    private void show(int[] sourceIndices, int count) {
+        List<Person> removed = sourceView(filtered, size);
+        filtered = sourceIndices;
+        size = count;
+        beginChange();
+        nextRemove(0, removed);
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Returns a list of the persons at the first {@code count} of {@code sourceIndices}, read from the source as
+     * they are asked for. {@code sourceIndices} must not change while the list is in use.
+     */
+    private List<Person> sourceView(int[] sourceIndices, int count) {
+        List<? extends Person> source = getSource();
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return source.get(sourceIndices[index]);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    /**
+     * Moves the persons in the view to their new source indices. The view keeps source order, so it is rebuilt
+     * from the moved indices and reported as replaced.
+     */
+    private void permute(Change<? extends Person> c) {
+        List<Person> removed = new ArrayList<>(this);
+        for (int i = 0; i < size; i++) {
+            if (filtered[i] >= c.getFrom() && filtered[i] < c.getTo()) {
+                filtered[i] = c.getPermutation(filtered[i]);
+            }
+        }
+        Arrays.sort(filtered, 0, size);
+        nextRemove(0, removed);
+        nextAdd(0, size);
+    }
+
+    /**
+     * Re-tests the persons updated in place at source indices {@code from} to {@code to}.
+     */
+    private void update(int from, int to) {
+        for (int i = from; i < to; i++) {
+            int position = Arrays.binarySearch(filtered, 0, size, i);
+            boolean isMatch = test.test(getSource().get(i));
+            if (position >= 0 && isMatch) {
+                nextUpdate(position);
+            } else if (position >= 0) {
+                nextRemove(position, getSource().get(i));
+                System.arraycopy(filtered, position + 1, filtered, position, size - position - 1);
+                size--;
+            } else if (isMatch) {
+                insertAt(-position - 1, i);
+                nextAdd(-position - 1, -position);
+            }
+        }
+    }
+
+    /**
+     * Applies a source change that replaced the persons {@code removed} at source index {@code from} with
+     * {@code addedSize} others, testing only the persons added.
+     */
+    private void replaceRange(int from, List<? extends Person> removed, int addedSize) {
+        int start = lowerBound(from);
+        int end = lowerBound(from + removed.size());
+        if (end > start) {
+            List<Person> removedFromView = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                removedFromView.add(removed.get(filtered[i] - from));
+            }
+            System.arraycopy(filtered, end, filtered, start, size - end);
+            size -= end - start;
+            nextRemove(start, removedFromView);
+        }
+
+        int shift = addedSize - removed.size();
+        for (int i = start; i < size && shift != 0; i++) {
+            filtered[i] += shift;
+        }
+
+        int position = start;
+        for (int i = from; i < from + addedSize; i++) {
+            if (test.test(getSource().get(i))) {
+                insertAt(position++, i);
+            }
+        }
+        if (position > start) {
+            nextAdd(start, position);
+        }
+    }
+
+    private void insertAt(int position, int sourceIndex) {
+        if (size == filtered.length) {
+            filtered = Arrays.copyOf(filtered, Math.max(16, size * 2));
+        }
+        System.arraycopy(filtered, position, filtered, position + 1, size - position);
+        filtered[position] = sourceIndex;
+        size++;
+    }
+
+    /**
+     * Returns the position in the view of the first person at or after source index {@code sourceIndex}.
+     */
+    private int lowerBound(int sourceIndex) {
+        int position = Arrays.binarySearch(filtered, 0, size, sourceIndex);
+        return position < 0 ? -position - 1 : position;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,12 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+    public static final String MESSAGE_UNDO_HISTORY_DEPTH_CONSTRAINTS = "Undo history depth should not be negative";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +62,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of earlier states of the address book kept for undo. 0 turns undo off.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, MESSAGE_UNDO_HISTORY_DEPTH_CONSTRAINTS);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +87,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryDepth);
     }
 
     @Override
@@ -82,6 +101,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -3,14 +3,23 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Represents a Person's listing in the address book.
  * Guarantees: immutable; is always valid
+ *
+ * Most persons share one of a handful of listings, so listings should be obtained through {@link #of(String)},
+ * which returns one shared instance per value.
  */
 public class Listing {
 
     public static final String MESSAGE_CONSTRAINTS = "Listings can take any values, and it should not be blank";
 
+    /** Canonical instances by value. Grows with the number of distinct listings seen in this session. */
+    private static final Map<String, Listing> CANONICAL_LISTINGS = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
@@ -26,6 +35,18 @@ public class Listing {
         this.value = listing;
     }
 
+    /**
+     * Returns the canonical {@code Listing} with the given value, creating it on first use.
+     *
+     * @param listing A valid, non-blank listing description.
+     * @throws NullPointerException if {@code listing} is null.
+     * @throws IllegalArgumentException if {@code listing} is blank.
+     */
+    public static Listing of(String listing) {
+        requireNonNull(listing);
+        return CANONICAL_LISTINGS.computeIfAbsent(listing, Listing::new);
+    }
+
     /**
      * Returns the listing value.
      */
@@ -0,0 +1,108 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from the case-folded words of a person's name to the names containing them.
+ * Names are split into words on whitespace, exactly as {@link StringUtil#containsWordIgnoreCase(String, String)}
+ * does, so a name contains a word in this index if and only if {@code containsWordIgnoreCase} would say so.
+ */
+class NameTokenIndex {
+
+    private final Map<String, Set<Name>> namesByWord = new HashMap<>();
+
+    /**
+     * Indexes every word of {@code name}.
+     */
+    void add(Name name) {
+        for (String word : foldedWordsOf(name)) {
+            namesByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(name);
+        }
+    }
+
+    /**
+     * Removes every word of {@code name} from the index.
+     */
+    void remove(Name name) {
+        for (String word : foldedWordsOf(name)) {
+            Set<Name> names = namesByWord.get(word);
+            if (names != null) {
+                names.remove(name);
+                if (names.isEmpty()) {
+                    namesByWord.remove(word);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        namesByWord.clear();
+    }
+
+    /**
+     * Returns true if {@code name} is indexed and contains a word whose case-folded form is {@code foldedWord}.
+     */
+    boolean containsWord(Name name, String foldedWord) {
+        Set<Name> names = namesByWord.get(foldedWord);
+        return names != null && names.contains(name);
+    }
+
+    /**
+     * Returns the indexed names containing a word whose case-folded form is {@code foldedWord}.
+     * The returned set must not be changed.
+     */
+    Set<Name> namesContainingWord(String foldedWord) {
+        return namesByWord.getOrDefault(foldedWord, Set.of());
+    }
+
+    /**
+     * Returns the case-folded form of {@code keyword} as {@code containsWordIgnoreCase} would match it, or null if
+     * {@code containsWordIgnoreCase} would reject {@code keyword} for being empty or for being more than one word.
+     */
+    static String foldKeyword(String keyword) {
+        String trimmed = keyword.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (isWhitespace(trimmed.charAt(i))) {
+                return null;
+            }
+        }
+        return StringUtil.foldCase(trimmed);
+    }
+
+    /**
+     * Returns the case-folded, whitespace-separated words of {@code name}.
+     */
+    private static List<String> foldedWordsOf(Name name) {
+        String fullName = name.fullName;
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= fullName.length(); i++) {
+            boolean atSeparator = i == fullName.length() || isWhitespace(fullName.charAt(i));
+            if (atSeparator && start != -1) {
+                words.add(StringUtil.foldCase(fullName.substring(start, i)));
+                start = -1;
+            } else if (!atSeparator && start == -1) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns true if {@code c} is matched by the regex {@code \s}, the separator used by
+     * {@code StringUtil#containsWordIgnoreCase}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -24,7 +23,7 @@ public class Person {
     // Data fields
     private final Address address;
     private final Listing listing;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
@@ -35,7 +34,7 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         this.listing = listing;
     }
 
@@ -64,7 +63,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -0,0 +1,124 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from each tag to the set of persons carrying it, stored as a bitmap over person ids.
+ * Every indexed person is given a small id that stays fixed while the person is in the index, so removing one person
+ * does not disturb the bitmaps of any other. Ids freed by removals are handed out again before new ones.
+ */
+class TagIndex {
+
+    private final Map<Name, Integer> idsByName = new HashMap<>();
+    private final BitSet freeIds = new BitSet();
+    private int nextId = 0;
+
+    private final Map<Tag, BitSet> idsByTag = new HashMap<>();
+    private final Map<Tag, Integer> countsByTag = new HashMap<>();
+    private final Map<String, Set<Tag>> tagsByFoldedName = new HashMap<>();
+
+    /** Incremented on every change, so that cached unions can tell when they are out of date. */
+    private int version = 0;
+
+    /**
+     * Indexes every tag of {@code person}.
+     * No person with the same name may already be in the index.
+     */
+    void add(Person person) {
+        int id = freeIds.isEmpty() ? nextId++ : freeIds.nextSetBit(0);
+        freeIds.clear(id);
+        idsByName.put(person.getName(), id);
+        for (Tag tag : person.getTags()) {
+            idsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(id);
+            countsByTag.merge(tag, 1, Integer::sum);
+            tagsByFoldedName.computeIfAbsent(StringUtil.foldCase(tag.tagName), unused -> new HashSet<>()).add(tag);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, which must have been added with the same tags, from the index.
+     */
+    void remove(Person person) {
+        int id = idsByName.remove(person.getName());
+        for (Tag tag : person.getTags()) {
+            if (countsByTag.merge(tag, -1, Integer::sum) == 0) {
+                countsByTag.remove(tag);
+                idsByTag.remove(tag);
+                String foldedName = StringUtil.foldCase(tag.tagName);
+                Set<Tag> sameFoldedName = tagsByFoldedName.get(foldedName);
+                sameFoldedName.remove(tag);
+                if (sameFoldedName.isEmpty()) {
+                    tagsByFoldedName.remove(foldedName);
+                }
+            } else {
+                idsByTag.get(tag).clear(id);
+            }
+        }
+        freeIds.set(id);
+        version++;
+    }
+
+    void clear() {
+        idsByName.clear();
+        freeIds.clear();
+        nextId = 0;
+        idsByTag.clear();
+        countsByTag.clear();
+        tagsByFoldedName.clear();
+        version++;
+    }
+
+    /**
+     * Returns the number of indexed persons carrying {@code tag}.
+     */
+    int countPersonsWithTag(Tag tag) {
+        return countsByTag.getOrDefault(tag, 0);
+    }
+
+    /**
+     * Returns a predicate that is true for an indexed person carrying a tag whose case-folded name is one of
+     * {@code foldedKeywords}. The predicate follows later changes to the index.
+     */
+    Predicate<Person> predicateFor(List<String> foldedKeywords) {
+        return new TagUnionPredicate(foldedKeywords);
+    }
+
+    /**
+     * Tests persons against the union of the bitmaps of every tag matching its keywords.
+     * The union is rebuilt only when the index has changed since it was last built.
+     */
+    private class TagUnionPredicate implements Predicate<Person> {
+        private final List<String> foldedKeywords;
+        private BitSet union;
+        private int unionVersion;
+
+        TagUnionPredicate(List<String> foldedKeywords) {
+            this.foldedKeywords = foldedKeywords;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (union == null || unionVersion != version) {
+                union = new BitSet();
+                for (String foldedKeyword : foldedKeywords) {
+                    for (Tag tag : tagsByFoldedName.getOrDefault(foldedKeyword, Set.of())) {
+                        union.or(idsByTag.get(tag));
+                    }
+                }
+                unionVersion = version;
+            }
+            Integer id = idsByName.get(person.getName());
+            return id != null && union.get(id);
+        }
+    }
+}
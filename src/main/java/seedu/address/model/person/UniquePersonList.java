@@ -3,13 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,20 +32,49 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks are answered by a name-keyed index that maps each person to its slot in the backing list,
+ * so {@code contains} and the duplicate checks in {@code add} and {@code setPerson} run in constant time, and
+ * {@code setPerson} and {@code remove} locate their target without scanning the list. Removing a person shifts the
+ * slots of every later person; those slots are renumbered lazily, only as far as the next lookup needs.
+ *
+ * Emails are not part of a person's identity, so several persons may share one. A secondary index groups the
+ * persons in the list by email, in the order they were added.
+ *
+ * Name searches are answered from an inverted index of the case-folded words in each name, so testing a person
+ * against a set of keywords is a few hash lookups instead of a regex split of the name per keyword. Tag searches
+ * are answered from a bitmap of the persons carrying each tag, which also keeps a count of those persons.
+ *
+ * The bulk operations {@code addAll}, {@code removeAll} and {@code replaceAll} validate their whole batch before
+ * touching the list, and then make it as a single change to the list, so listeners such as a filtered view of the
+ * list handle the batch in one pass rather than once per person.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /**
+     * Removing persons one at a time shifts every later person down each time. Once a removal would shift more than
+     * this many times the length of the list in all, the remaining persons replace the contents in one go instead.
+     */
+    private static final int MAX_REMOVAL_SHIFTS_PER_PERSON = 16;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> slotsByName = new HashMap<>();
+    private final Map<Email, List<Person>> personsByEmail = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagIndex tagIndex = new TagIndex();
+
+    /** Slots in {@code slotsByName} below this value are exact; slots at or above it may be stale after a removal. */
+    private int firstStaleSlot = Integer.MAX_VALUE;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slotsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -45,9 +86,33 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        slotsByName.put(toAdd.getName(), internalList.size());
+        indexEmail(toAdd);
+        nameTokenIndex.add(toAdd.getName());
+        tagIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list, as a single change to the list.
+     * None of the persons may already exist in the list, nor share an identity with another of them.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+
+        for (int i = 0; i < toAdd.size(); i++) {
+            Person person = toAdd.get(i);
+            slotsByName.put(person.getName(), internalList.size() + i);
+            indexEmail(person);
+            nameTokenIndex.add(person.getName());
+            tagIndex.add(person);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +121,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +130,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        slotsByName.remove(target.getName());
+        slotsByName.put(editedPerson.getName(), index);
+        unindexEmail(internalList.get(index));
+        indexEmail(editedPerson);
+        nameTokenIndex.remove(target.getName());
+        nameTokenIndex.add(editedPerson.getName());
+        tagIndex.remove(internalList.get(index));
+        tagIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,14 +147,120 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        slotsByName.remove(toRemove.getName());
+        unindexEmail(internalList.get(index));
+        nameTokenIndex.remove(toRemove.getName());
+        tagIndex.remove(internalList.get(index));
+        firstStaleSlot = Math.min(firstStaleSlot, index);
+        internalList.remove(index);
+    }
+
+    /**
+     * Removes every person in the list matching {@code predicate}, as a single change to the list.
+     *
+     * @return the persons removed, in the order they were in the list.
+     */
+    public List<Person> removeAll(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        List<Person> removed = new ArrayList<>();
+        List<Person> kept = new ArrayList<>(internalList.size());
+        int firstRemoved = -1;
+        long shifts = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            if (predicate.test(person)) {
+                firstRemoved = firstRemoved == -1 ? i : firstRemoved;
+                shifts += internalList.size() - 1 - i;
+                removed.add(person);
+            } else {
+                kept.add(person);
+            }
+        }
+        if (removed.isEmpty()) {
+            return removed;
+        }
+
+        for (Person person : removed) {
+            slotsByName.remove(person.getName());
+            unindexEmail(person);
+            nameTokenIndex.remove(person.getName());
+            tagIndex.remove(person);
+        }
+        if (shifts > (long) MAX_REMOVAL_SHIFTS_PER_PERSON * internalList.size()) {
+            slotsByName.clear();
+            for (int i = 0; i < kept.size(); i++) {
+                slotsByName.put(kept.get(i).getName(), i);
+            }
+            firstStaleSlot = Integer.MAX_VALUE;
+            internalList.setAll(kept);
+        } else {
+            Set<Person> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+            toRemove.addAll(removed);
+            firstStaleSlot = Math.min(firstStaleSlot, firstRemoved);
+            internalList.removeAll(toRemove);
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces each person in the list with the result of applying {@code mapper} to it, as a single change to the
+     * list. Persons mapped to an equal person are left in place. The mapped persons must not share an identity with
+     * one another; if they do, the list is left unchanged.
+     *
+     * @return the number of persons replaced.
+     */
+    public int replaceAll(UnaryOperator<Person> mapper) {
+        requireNonNull(mapper);
+        List<Person> replacement = new ArrayList<>(internalList.size());
+        List<Integer> changedSlots = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            Person mapped = requireNonNull(mapper.apply(person));
+            if (mapped.equals(person)) {
+                replacement.add(person);
+            } else {
+                replacement.add(mapped);
+                changedSlots.add(i);
+            }
+        }
+        if (changedSlots.isEmpty()) {
+            return 0;
+        }
+        if (!personsAreUnique(replacement)) {
+            throw new DuplicatePersonException();
+        }
+
+        // all the old entries go before any new one is added, as persons may swap names with one another
+        for (int slot : changedSlots) {
+            Person person = internalList.get(slot);
+            slotsByName.remove(person.getName());
+            unindexEmail(person);
+            nameTokenIndex.remove(person.getName());
+            tagIndex.remove(person);
+        }
+        for (int slot : changedSlots) {
+            Person person = replacement.get(slot);
+            slotsByName.put(person.getName(), slot);
+            indexEmail(person);
+            nameTokenIndex.add(person.getName());
+            tagIndex.add(person);
+        }
+        if (changedSlots.size() == 1) {
+            internalList.set(changedSlots.get(0), replacement.get(changedSlots.get(0)));
+        } else {
+            internalList.setAll(replacement);
+        }
+        return changedSlots.size();
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setPersons(replacement.internalList);
     }
 
     /**
@@ -94,9 +273,190 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        slotsByName.clear();
+        personsByEmail.clear();
+        nameTokenIndex.clear();
+        tagIndex.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            slotsByName.put(persons.get(i).getName(), i);
+            indexEmail(persons.get(i));
+            nameTokenIndex.add(persons.get(i).getName());
+            tagIndex.add(persons.get(i));
+        }
+        firstStaleSlot = Integer.MAX_VALUE;
         internalList.setAll(persons);
     }
 
+    /**
+     * Makes the contents of this list equal to {@code persons} through targeted changes: persons matched by identity
+     * are replaced in place if their fields differ, persons no longer present are removed, and new persons are
+     * inserted where they belong. Listeners therefore do work in proportion to the persons that differ rather than
+     * to the length of the list. If the persons kept are in a different order in {@code persons}, the contents are
+     * replaced as {@link #setPersons(List)} does.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void setPersonsIncrementally(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!personsAreUnique(persons)) {
+            throw new DuplicatePersonException();
+        }
+
+        // a person in the common prefix or suffix cannot share an identity with one outside it
+        int start = 0;
+        int oldEnd = internalList.size();
+        int newEnd = persons.size();
+        while (start < oldEnd && start < newEnd && internalList.get(start).equals(persons.get(start))) {
+            start++;
+        }
+        while (oldEnd > start && newEnd > start && internalList.get(oldEnd - 1).equals(persons.get(newEnd - 1))) {
+            oldEnd--;
+            newEnd--;
+        }
+
+        Map<Name, Integer> newPositions = new HashMap<>();
+        for (int i = start; i < newEnd; i++) {
+            newPositions.put(persons.get(i).getName(), i);
+        }
+        Set<Person> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        int lastNewPosition = -1;
+        for (int i = start; i < oldEnd; i++) {
+            Person person = internalList.get(i);
+            Integer newPosition = newPositions.get(person.getName());
+            if (newPosition == null) {
+                toRemove.add(person);
+            } else if (newPosition < lastNewPosition) {
+                setPersons(persons);
+                return;
+            } else {
+                lastNewPosition = newPosition;
+            }
+        }
+
+        int keptEnd = oldEnd - toRemove.size();
+        if (!toRemove.isEmpty()) {
+            removeAll(toRemove::contains);
+        }
+        int slot = start;
+        List<Person> toInsert = new ArrayList<>();
+        for (int i = start; i < newEnd; i++) {
+            Person incoming = persons.get(i);
+            if (slot < keptEnd && internalList.get(slot).isSamePerson(incoming)) {
+                insertAll(slot, toInsert);
+                slot += toInsert.size();
+                keptEnd += toInsert.size();
+                toInsert.clear();
+                if (!internalList.get(slot).equals(incoming)) {
+                    setPerson(internalList.get(slot), incoming);
+                }
+                slot++;
+            } else {
+                toInsert.add(incoming);
+            }
+        }
+        insertAll(slot, toInsert);
+    }
+
+    /**
+     * Returns the person in the list named {@code name}, if there is one.
+     */
+    public Optional<Person> getPersonByName(Name name) {
+        requireNonNull(name);
+        int slot = slotOf(name);
+        return slot == -1 ? Optional.empty() : Optional.of(internalList.get(slot));
+    }
+
+    /**
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    public int positionOf(Person person) {
+        requireNonNull(person);
+        return indexOf(person);
+    }
+
+    /**
+     * Returns the persons in the list whose email is {@code email}, in the order they were added.
+     * Returns an empty list if there is no such person.
+     */
+    public List<Person> getPersonsByEmail(Email email) {
+        requireNonNull(email);
+        List<Person> sameEmail = personsByEmail.get(email);
+        return sameEmail == null ? Collections.emptyList() : List.copyOf(sameEmail);
+    }
+
+    /**
+     * Returns true if the list contains a person whose email is {@code email}.
+     */
+    public boolean containsEmail(Email email) {
+        requireNonNull(email);
+        return personsByEmail.containsKey(email);
+    }
+
+    /**
+     * Returns a predicate that agrees with {@code predicate} on every person in this list, answered from the name
+     * index. The returned predicate reads the index live, so it stays correct as the list changes.
+     * If any keyword would be rejected by {@code predicate}, {@code predicate} itself is returned.
+     */
+    public Predicate<Person> getIndexedNamePredicate(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> foldedKeywords = foldKeywords(predicate.getKeywords());
+        if (foldedKeywords == null) {
+            return predicate;
+        }
+
+        return person -> {
+            for (String foldedKeyword : foldedKeywords) {
+                if (nameTokenIndex.containsWord(person.getName(), foldedKeyword)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns a predicate that agrees with {@code predicate} on every person in this list, answered from the tag
+     * index. The returned predicate reads the index live, so it stays correct as the list changes.
+     * If any keyword would be rejected by {@code predicate}, {@code predicate} itself is returned.
+     */
+    public Predicate<Person> getIndexedTagPredicate(TagContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> foldedKeywords = foldKeywords(predicate.getKeywords());
+        return foldedKeywords == null ? predicate : tagIndex.predicateFor(foldedKeywords);
+    }
+
+    /**
+     * Returns the positions in this list of the persons matching {@code predicate}, in ascending order.
+     * They are looked up in the name index, so only the matching persons are visited, however long the list is.
+     * Returns null if any keyword would be rejected by {@code predicate}.
+     */
+    public int[] getPositionsMatching(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        List<String> foldedKeywords = foldKeywords(predicate.getKeywords());
+        if (foldedKeywords == null) {
+            return null;
+        }
+
+        Set<Name> names = new HashSet<>();
+        for (String foldedKeyword : foldedKeywords) {
+            names.addAll(nameTokenIndex.namesContainingWord(foldedKeyword));
+        }
+        int[] positions = new int[names.size()];
+        int count = 0;
+        for (Name name : names) {
+            positions[count++] = slotOf(name);
+        }
+        Arrays.sort(positions);
+        return positions;
+    }
+
+    /**
+     * Returns the number of persons in the list carrying {@code tag}.
+     */
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return tagIndex.countPersonsWithTag(tag);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,15 +494,97 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the case-folded forms of {@code keywords}, or null if any would be rejected by
+     * {@code StringUtil#containsWordIgnoreCase}.
+     */
+    private static List<String> foldKeywords(List<String> keywords) {
+        List<String> foldedKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            String foldedKeyword = NameTokenIndex.foldKeyword(keyword);
+            if (foldedKeyword == null) {
+                return null;
+            }
+            foldedKeywords.add(foldedKeyword);
+        }
+        return foldedKeywords;
+    }
+
+    /**
+     * Returns the slot of the person equal to {@code person}, or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        int slot = slotOf(person.getName());
+        return slot != -1 && internalList.get(slot).equals(person) ? slot : -1;
+    }
+
+    /**
+     * Returns the slot of the person named {@code name}, or -1 if there is no such person.
+     */
+    private int slotOf(Name name) {
+        Integer slot = slotsByName.get(name);
+        if (slot == null) {
+            return -1;
+        }
+        if (slot >= firstStaleSlot) {
+            slot = renumberStaleSlots(name, slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Renumbers stale slots until the person named {@code name} is reached and returns that person's slot.
+     * Removals only ever shift persons towards the front, so the search never needs to go past {@code staleSlot}.
+     */
+    private int renumberStaleSlots(Name name, int staleSlot) {
+        int last = Math.min(staleSlot, internalList.size() - 1);
+        for (int i = firstStaleSlot; i <= last; i++) {
+            slotsByName.put(internalList.get(i).getName(), i);
+        }
+        firstStaleSlot = last + 1 >= internalList.size() ? Integer.MAX_VALUE : last + 1;
+        return slotsByName.get(name);
+    }
+
+    /**
+     * Inserts {@code toInsert} at {@code slot}, as a single change to the list, and renumbers the slots of the persons
+     * after them. The persons must be new to the list.
+     */
+    private void insertAll(int slot, List<Person> toInsert) {
+        if (toInsert.isEmpty()) {
+            return;
+        }
+        for (Person person : toInsert) {
+            indexEmail(person);
+            nameTokenIndex.add(person.getName());
+            tagIndex.add(person);
+        }
+        internalList.addAll(slot, toInsert);
+        for (int i = Math.min(firstStaleSlot, slot); i < internalList.size(); i++) {
+            slotsByName.put(internalList.get(i).getName(), i);
+        }
+        firstStaleSlot = Integer.MAX_VALUE;
+    }
+
+    private void indexEmail(Person person) {
+        personsByEmail.computeIfAbsent(person.getEmail(), unused -> new ArrayList<>(1)).add(person);
+    }
+
+    private void unindexEmail(Person person) {
+        List<Person> sameEmail = personsByEmail.get(person.getEmail());
+        sameEmail.remove(person);
+        if (sameEmail.isEmpty()) {
+            personsByEmail.remove(person.getEmail());
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
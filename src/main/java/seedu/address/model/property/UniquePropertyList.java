@@ -3,8 +3,16 @@ package seedu.address.model.property;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +29,10 @@ import seedu.address.model.property.exceptions.PropertyNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks are answered by a name-keyed index that maps each property to its slot in the backing list,
+ * mirroring {@link seedu.address.model.person.UniquePersonList}. A second index orders properties by
+ * {@code Price#price} so that price range queries only visit the properties in range.
+ *
  * @see Property#isSameProperty(Property)
  */
 public class UniquePropertyList implements Iterable<Property> {
@@ -28,13 +40,18 @@ public class UniquePropertyList implements Iterable<Property> {
     private final ObservableList<Property> internalList = FXCollections.observableArrayList();
     private final ObservableList<Property> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> slotsByName = new HashMap<>();
+    private final NavigableMap<Integer, List<Property>> propertiesByPrice = new TreeMap<>();
+
+    /** Slots in {@code slotsByName} below this value are exact; slots at or above it may be stale after a removal. */
+    private int firstStaleSlot = Integer.MAX_VALUE;
 
     /**
      * Returns true if the list contains an equivalent property as the given argument.
      */
     public boolean contains(Property toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProperty);
+        return slotsByName.containsKey(toCheck.getPropertyName());
     }
 
     /**
@@ -46,6 +63,8 @@ public class UniquePropertyList implements Iterable<Property> {
         if (contains(toAdd)) {
             throw new DuplicatePropertyException();
         }
+        slotsByName.put(toAdd.getPropertyName(), internalList.size());
+        indexPrice(toAdd);
         internalList.add(toAdd);
     }
 
@@ -57,7 +76,7 @@ public class UniquePropertyList implements Iterable<Property> {
     public void setProperty(Property target, Property editedProperty) {
         requireAllNonNull(target, editedProperty);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PropertyNotFoundException();
         }
@@ -66,6 +85,10 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
 
+        slotsByName.remove(target.getPropertyName());
+        slotsByName.put(editedProperty.getPropertyName(), index);
+        unindexPrice(target);
+        indexPrice(editedProperty);
         internalList.set(index, editedProperty);
     }
 
@@ -75,14 +98,20 @@ public class UniquePropertyList implements Iterable<Property> {
      */
     public void remove(Property toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PropertyNotFoundException();
         }
+
+        slotsByName.remove(toRemove.getPropertyName());
+        unindexPrice(toRemove);
+        firstStaleSlot = Math.min(firstStaleSlot, index);
+        internalList.remove(index);
     }
 
     public void setProperties(UniquePropertyList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setProperties(replacement.internalList);
     }
 
     /**
@@ -95,9 +124,32 @@ public class UniquePropertyList implements Iterable<Property> {
             throw new DuplicatePropertyException();
         }
 
+        slotsByName.clear();
+        propertiesByPrice.clear();
+        for (int i = 0; i < properties.size(); i++) {
+            slotsByName.put(properties.get(i).getPropertyName(), i);
+            indexPrice(properties.get(i));
+        }
+        firstStaleSlot = Integer.MAX_VALUE;
         internalList.setAll(properties);
     }
 
+    /**
+     * Returns the properties whose price lies between {@code minPrice} and {@code maxPrice}, both inclusive,
+     * in ascending order of price. Properties with the same price are returned in the order they were added.
+     */
+    public List<Property> getPropertiesInPriceRange(int minPrice, int maxPrice) {
+        if (minPrice > maxPrice) {
+            return Collections.emptyList();
+        }
+
+        List<Property> inRange = new ArrayList<>();
+        for (List<Property> samePrice : propertiesByPrice.subMap(minPrice, true, maxPrice, true).values()) {
+            inRange.addAll(samePrice);
+        }
+        return Collections.unmodifiableList(inRange);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -135,15 +187,54 @@ public class UniquePropertyList implements Iterable<Property> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the slot of the property equal to {@code property}, or -1 if there is no such property.
+     */
+    private int indexOf(Property property) {
+        Integer slot = slotsByName.get(property.getPropertyName());
+        if (slot == null) {
+            return -1;
+        }
+        if (slot >= firstStaleSlot) {
+            slot = renumberStaleSlots(property.getPropertyName(), slot);
+        }
+        return internalList.get(slot).equals(property) ? slot : -1;
+    }
+
+    /**
+     * Renumbers stale slots until the property named {@code name} is reached and returns that property's slot.
+     * Removals only ever shift properties towards the front, so the search never needs to go past {@code staleSlot}.
+     */
+    private int renumberStaleSlots(Name name, int staleSlot) {
+        int last = Math.min(staleSlot, internalList.size() - 1);
+        for (int i = firstStaleSlot; i <= last; i++) {
+            slotsByName.put(internalList.get(i).getPropertyName(), i);
+        }
+        firstStaleSlot = last + 1 >= internalList.size() ? Integer.MAX_VALUE : last + 1;
+        return slotsByName.get(name);
+    }
+
+    private void indexPrice(Property property) {
+        propertiesByPrice.computeIfAbsent(property.getPrice().price, unused -> new ArrayList<>()).add(property);
+    }
+
+    private void unindexPrice(Property property) {
+        Integer price = property.getPrice().price;
+        List<Property> samePrice = propertiesByPrice.get(price);
+        samePrice.remove(property);
+        if (samePrice.isEmpty()) {
+            propertiesByPrice.remove(price);
+        }
+    }
+
     /**
      * Returns true if {@code properties} contains only unique properties.
      */
     private boolean propertiesAreUnique(List<Property> properties) {
-        for (int i = 0; i < properties.size() - 1; i++) {
-            for (int j = i + 1; j < properties.size(); j++) {
-                if (properties.get(i).isSameProperty(properties.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Property property : properties) {
+            if (!seenNames.add(property.getPropertyName())) {
+                return false;
             }
         }
         return true;
@@ -3,15 +3,26 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * There are only a few distinct tags in an address book, so tags should be obtained through {@link #of(String)},
+ * which returns one shared instance per tag name.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** Canonical instances by tag name. Grows with the number of distinct tag names seen in this session. */
+    private static final Map<String, Tag> CANONICAL_TAGS = new ConcurrentHashMap<>();
+
     public final String tagName;
 
     /**
@@ -25,11 +36,21 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the canonical {@code Tag} named {@code tagName}, creating it on first use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return CANONICAL_TAGS.computeIfAbsent(tagName, Tag::new);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAsciiAlphanumeric(test);
     }
 
     @Override
@@ -0,0 +1,93 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of tags stored as an array sorted by tag name.
+ * Persons carry only a few tags each, so a sorted array is far smaller than a {@code HashSet} and just as quick to
+ * search. Every empty tag set is the same instance.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Comparator<Tag> BY_TAG_NAME = Comparator.comparing(tag -> tag.tagName);
+    private static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns an immutable set containing the distinct tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sorted = tags.toArray(new Tag[0]);
+        Arrays.sort(sorted, BY_TAG_NAME);
+        int distinct = 0;
+        for (Tag tag : sorted) {
+            requireNonNull(tag);
+            if (distinct == 0 || !sorted[distinct - 1].equals(tag)) {
+                sorted[distinct++] = tag;
+            }
+        }
+        return new TagSet(distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && Arrays.binarySearch(tags, (Tag) o, BY_TAG_NAME) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            return Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+}
@@ -0,0 +1,291 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javafx.collections.ListChangeListener.Change;
+
+/**
+ * An immutable list whose updates return a new list sharing all but O(log n) of its structure with the old one, so
+ * any version of it can be kept at little cost. Elements are held in a balanced binary tree ordered by position.
+ * Getting, replacing, inserting and removing the element at an index all take O(log n) time.
+ *
+ * @param <T> the type of the elements, which should themselves be immutable.
+ */
+public final class PersistentList<T> {
+
+    /**
+     * A change to an observed list larger than this fraction of the list is applied by rebuilding the list from the
+     * observed list, which takes linear time, rather than element by element.
+     */
+    private static final int REBUILD_FRACTION = 8;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+    private final List<T> view = new View();
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in order, built in linear time.
+     */
+    public static <T> PersistentList<T> of(List<? extends T> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        int remaining = index;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (remaining < leftSize) {
+                node = node.left;
+            } else if (remaining == leftSize) {
+                return node.value;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<T> set(int index, T element) {
+        checkIndex(index, size());
+        return new PersistentList<>(setIn(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, which may be the size of this list.
+     */
+    public PersistentList<T> insert(int index, T element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insertIn(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     */
+    public PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(removeFrom(root, index));
+    }
+
+    /**
+     * Returns this list with {@code change}, a change made to an observed list, applied to it.
+     * This list must have held the same elements as the observed list before the change. Large changes, and
+     * permutations, are applied by rebuilding the list from the observed list.
+     */
+    public PersistentList<T> with(Change<? extends T> change) {
+        requireNonNull(change);
+        PersistentList<T> result = this;
+        int changedCount = 0;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                return of(change.getList());
+            }
+            if (change.wasUpdated()) {
+                continue;
+            }
+            changedCount += change.getRemovedSize() + change.getAddedSize();
+            if (changedCount > change.getList().size() / REBUILD_FRACTION + 1) {
+                return of(change.getList());
+            }
+
+            int from = change.getFrom();
+            List<? extends T> added = change.getAddedSubList();
+            int replacedCount = Math.min(change.getRemovedSize(), added.size());
+            for (int i = 0; i < replacedCount; i++) {
+                result = result.set(from + i, added.get(i));
+            }
+            for (int i = replacedCount; i < change.getRemovedSize(); i++) {
+                result = result.remove(from + replacedCount);
+            }
+            for (int i = replacedCount; i < added.size(); i++) {
+                result = result.insert(from + i, added.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns an unmodifiable view of this list as a {@code java.util.List}.
+     */
+    public List<T> asList() {
+        return view;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    /** A node of the tree; {@code size} and {@code height} are those of the subtree rooted at the node. */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>((T) elements[middle], build(elements, from, middle), build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> setIn(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, setIn(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.left, node.right);
+        } else {
+            return new Node<>(node.value, node.left, setIn(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> insertIn(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insertIn(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, insertIn(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> removeFrom(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeFrom(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeFrom(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> first = node.right;
+            while (first.left != null) {
+                first = first.left;
+            }
+            return balance(first.value, node.left, removeFrom(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotated so that the heights of
+     * its subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value, new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value, new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * A read-only view of the list, iterated in order without a lookup per element.
+     */
+    private final class View extends AbstractList<T> {
+        @Override
+        public T get(int index) {
+            return PersistentList.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return PersistentList.this.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Deque<Node<T>> path = new ArrayDeque<>();
+            for (Node<T> node = root; node != null; node = node.left) {
+                path.push(node);
+            }
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return !path.isEmpty();
+                }
+
+                @Override
+                public T next() {
+                    if (path.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+                    Node<T> node = path.pop();
+                    for (Node<T> next = node.right; next != null; next = next.left) {
+                        path.push(next);
+                    }
+                    return node.value;
+                }
+            };
+        }
+    }
+}
@@ -24,22 +24,22 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new Address("Blk 30 Geylang Street 29, #06-40"), new Listing("Condo"),
+                new Address("Blk 30 Geylang Street 29, #06-40"), Listing.of("Condo"),
                 getTagSet("friends")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), new Listing("HDB"),
+                new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), Listing.of("HDB"),
                 getTagSet("colleagues", "friends")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), new Listing("Landed Property"),
+                new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), Listing.of("Landed Property"),
                 getTagSet("neighbours")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), new Listing("Condo"),
+                new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), Listing.of("Condo"),
                 getTagSet("family")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Address("Blk 47 Tampines Street 20, #17-35"), new Listing("HDB"),
+                new Address("Blk 47 Tampines Street 20, #17-35"), Listing.of("HDB"),
                 getTagSet("classmates")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Address("Blk 45 Aljunied Street 85, #11-31"), new Listing("Landed Property"),
+                new Address("Blk 45 Aljunied Street 85, #11-31"), Listing.of("Landed Property"),
                 getTagSet("colleagues"))
         };
     }
@@ -63,9 +63,7 @@ public class SampleDataUtil {
 
     public static ReadOnlyAddressBook getSampleAddressBook() {
         AddressBook sampleAb = new AddressBook();
-        for (Person samplePerson : getSamplePersons()) {
-            sampleAb.addPerson(samplePerson);
-        }
+        sampleAb.addPersons(Arrays.asList(getSamplePersons()));
         for (Property sampleProp : getSampleProperties()) {
             sampleAb.addProperty(sampleProp);
         }
@@ -77,7 +75,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
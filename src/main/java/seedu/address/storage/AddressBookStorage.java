@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -47,6 +48,31 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures {@code addressBook} as it is now and returns a task that saves it to the data file, as
+     * {@link #saveAddressBook(ReadOnlyAddressBook)} would. Must be called from the thread that changes
+     * {@code addressBook}; the task may be written from any thread, and tasks must be written in the order they
+     * were prepared.
+     */
+    default SaveTask prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        return () -> saveAddressBook(snapshot);
+    }
+
+    /**
+     * Tells the storage that {@code addressBook} matches the data currently saved, so that later saves of it need
+     * only record what has changed. Storages that always write the whole address book ignore this.
+     */
+    default void trackAddressBook(ReadOnlyAddressBook addressBook) {}
+
+    /**
+     * Folds any changes saved apart from the main data file, such as a journal, back into the data file.
+     * Storages that always write the whole address book have nothing to do.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void compactAddressBook() throws IOException {}
+
     /**
      * Reads the address book and returns a structured {@link LoadReport}
      * containing both parsed entries and invalid entries with reasons.
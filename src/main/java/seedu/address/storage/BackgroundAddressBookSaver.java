@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes saves of the address book on a single background thread, so that the thread running commands does not
+ * wait for the disk.
+ *
+ * Each requested save is captured immediately with {@link AddressBookStorage#prepareSaveAddressBook}, then queued.
+ * Saves requested while an earlier one is being written coalesce: a full save replaces every save still queued,
+ * and saves of changes are written one after the other. A save that fails is reported to the failure listener as soon
+ * as it fails, and again by the next request or by {@link #flush()}.
+ *
+ * The saver notes the version of the address book each save captures, as its {@link AddressBookSnapshot} would
+ * carry it, so that it can report the version last written.
+ */
+class BackgroundAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // All guarded by this
+    private SaveTask queued;
+    private long queuedVersion;
+    private boolean isWriting;
+    private IOException failure;
+    private long writtenVersion = AddressBookSnapshot.NO_VERSION;
+    private volatile Consumer<IOException> failureListener = failure -> {};
+
+    BackgroundAddressBookSaver(AddressBookStorage addressBookStorage) {
+        this.addressBookStorage = requireNonNull(addressBookStorage);
+    }
+
+    /**
+     * Sets the listener told of each save that fails, on the saving thread, as soon as it fails.
+     */
+    void setFailureListener(Consumer<IOException> failureListener) {
+        this.failureListener = requireNonNull(failureListener);
+    }
+
+    /**
+     * Captures {@code addressBook} and queues it to be saved.
+     * Must be called from the thread that changes {@code addressBook}.
+     *
+     * @throws IOException if an earlier save failed and has not been reported yet. The save requested now is queued
+     *     regardless.
+     */
+    void requestSave(ReadOnlyAddressBook addressBook) throws IOException {
+        long version = AddressBookSnapshot.versionOf(addressBook);
+        SaveTask task = addressBookStorage.prepareSaveAddressBook(addressBook);
+        IOException earlierFailure;
+        synchronized (this) {
+            queued = queued == null || task.isFullSave() ? task : queued.andThen(task);
+            queuedVersion = version;
+            if (!isWriting) {
+                isWriting = true;
+                writer.execute(this::writeQueued);
+            }
+            earlierFailure = takeFailure();
+        }
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
+    }
+
+    /**
+     * Waits until every requested save has been written.
+     *
+     * @throws IOException if a save failed and has not been reported yet.
+     */
+    void flush() throws IOException {
+        IOException earlierFailure;
+        synchronized (this) {
+            awaitIdle();
+            earlierFailure = takeFailure();
+        }
+        if (earlierFailure != null) {
+            throw earlierFailure;
+        }
+    }
+
+    /**
+     * Returns the version of the address book held by the last save written successfully, or
+     * {@link AddressBookSnapshot#NO_VERSION} if none has been, or if the address book saved does not keep versions.
+     */
+    synchronized long getWrittenVersion() {
+        return writtenVersion;
+    }
+
+    /**
+     * Waits until every requested save has been written, leaving any failure to be reported later.
+     */
+    synchronized void awaitIdle() throws InterruptedIOException {
+        while (isWriting) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the address book to be saved");
+            }
+        }
+    }
+
+    private void writeQueued() {
+        while (true) {
+            SaveTask task;
+            long version;
+            synchronized (this) {
+                if (queued == null) {
+                    isWriting = false;
+                    notifyAll();
+                    return;
+                }
+                task = queued;
+                version = queuedVersion;
+                queued = null;
+            }
+
+            try {
+                task.write();
+                synchronized (this) {
+                    writtenVersion = version;
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Could not save data in the background: " + e);
+                IOException saveFailure = e instanceof IOException ioe ? ioe : new IOException(e);
+                synchronized (this) {
+                    failure = saveFailure;
+                }
+                failureListener.accept(saveFailure);
+            }
+        }
+    }
+
+    private IOException takeFailure() {
+        IOException taken = failure;
+        failure = null;
+        return taken;
+    }
+}
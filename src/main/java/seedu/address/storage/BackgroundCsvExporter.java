@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes CSV exports with {@link CsvPersonExporter} on a single background thread, one after the other, so that the
+ * thread running commands does not wait for the disk.
+ *
+ * The thread is not a daemon, so the application does not exit while an export is being written, and it ends once
+ * it has been idle for a while. {@link #shutdown()} waits for every export requested to be written.
+ */
+class BackgroundCsvExporter {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundCsvExporter.class);
+
+    private static final long IDLE_SECONDS = 5;
+
+    private final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, IDLE_SECONDS, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, "csv-exporter"));
+
+    BackgroundCsvExporter() {
+        writer.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Queues {@code persons} to be written to {@code file}, reporting the number of rows written so far to
+     * {@code progress} from the writing thread. {@code persons} must not change until the export is written.
+     *
+     * @return a future completed once the file is written, or completed exceptionally if it could not be.
+     */
+    CompletableFuture<Void> requestExport(List<Person> persons, Path file, IntConsumer progress) {
+        requireNonNull(persons);
+        requireNonNull(file);
+        requireNonNull(progress);
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        try {
+            writer.execute(() -> {
+                try {
+                    CsvPersonExporter.write(persons, file, progress);
+                    written.complete(null);
+                } catch (IOException | RuntimeException e) {
+                    logger.warning("Export to " + file + " failed: " + e);
+                    written.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            written.completeExceptionally(new IOException("The application is stopping", e));
+        }
+        return written;
+    }
+
+    /**
+     * Waits until every requested export has been written, and accepts no more exports.
+     */
+    void shutdown() throws InterruptedIOException {
+        writer.shutdown();
+        try {
+            while (!writer.awaitTermination(IDLE_SECONDS, TimeUnit.SECONDS)) {
+                logger.info("Waiting for exports to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for exports to be written");
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package seedu.address.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Listing;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Reads and writes a compact binary copy of an address book JSON file, which loads much faster than the JSON itself.
+ * The JSON file remains the data file: the binary copy records the fingerprint of the JSON file it was made from,
+ * and is only used while that JSON file is unchanged. Otherwise it is simply made again from the JSON file.
+ *
+ * Format (all numbers big-endian, every string an {@code int} byte length followed by that many bytes of UTF-8):
+ * <pre>
+ * header:  int magic, int format version, source {@link FileFingerprint}, int payload length,
+ *          long CRC32C of the payload
+ * payload: int dictionary size, the dictionary strings (every distinct tag name and listing),
+ *          int person count, each person as name, phone, email, address, int listing entry,
+ *              int tag count, int tag entries,
+ *          int property count, each property as address, int price, name
+ * </pre>
+ */
+final class BinaryAddressBookSnapshot {
+
+    /** "ABBS". */
+    private static final int MAGIC = 0x41424253;
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_SUFFIX = ".bin";
+
+    private BinaryAddressBookSnapshot() {}
+
+    /**
+     * Returns where the binary copy of {@code jsonFile} is kept.
+     */
+    static Path pathFor(Path jsonFile) {
+        return jsonFile.resolveSibling(jsonFile.getFileName() + FILE_SUFFIX);
+    }
+
+    /**
+     * Writes {@code addressBook}, which is what the JSON file with fingerprint {@code source} holds, to
+     * {@code snapshotFile}. The file is replaced atomically.
+     */
+    static void write(Path snapshotFile, ReadOnlyAddressBook addressBook, FileFingerprint source)
+            throws IOException {
+        byte[] payload = encode(addressBook);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (OutputStream file = Files.newOutputStream(tmp);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            source.writeTo(out);
+            out.writeInt(payload.length);
+            out.writeLong(crc.getValue());
+            out.write(payload);
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the address book in {@code snapshotFile}.
+     * Returns an empty {@code Optional} if there is no such file, or if {@code jsonFile} has changed since it was
+     * written.
+     *
+     * @throws IOException if the file cannot be read, is of an unknown format version, or is corrupt.
+     */
+    static Optional<AddressBook> read(Path snapshotFile, Path jsonFile) throws IOException {
+        if (!Files.exists(snapshotFile)) {
+            return Optional.empty();
+        }
+
+        byte[] payload;
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(snapshotFile))) {
+            if (!readSource(in, snapshotFile).matches(jsonFile)) {
+                return Optional.empty();
+            }
+            int length = in.readInt();
+            long checksum = in.readLong();
+            if (length < 0) {
+                throw new IOException("Corrupt address book snapshot: " + snapshotFile);
+            }
+            payload = in.readNBytes(length);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if (payload.length != length || crc.getValue() != checksum) {
+                throw new IOException("Corrupt address book snapshot: " + snapshotFile);
+            }
+        }
+
+        try {
+            return Optional.of(decode(payload));
+        } catch (RuntimeException e) {
+            // a bad dictionary entry, an invalid field or a duplicate, which the checksum should have ruled out
+            throw new IOException("Corrupt address book snapshot: " + snapshotFile, e);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the JSON file that {@code snapshotFile} was made from, reading only its header.
+     *
+     * @throws IOException if the file cannot be read or is of an unknown format version.
+     */
+    static FileFingerprint readSource(Path snapshotFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(snapshotFile))) {
+            return readSource(in, snapshotFile);
+        }
+    }
+
+    private static FileFingerprint readSource(DataInputStream in, Path snapshotFile) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not an address book snapshot: " + snapshotFile);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported address book snapshot version " + version);
+        }
+        return FileFingerprint.readFrom(in);
+    }
+
+    private static byte[] encode(ReadOnlyAddressBook addressBook) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            dictionary.putIfAbsent(person.getListing().value, dictionary.size());
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(out, entry);
+            }
+
+            List<Person> persons = addressBook.getPersonList();
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writeString(out, person.getName().fullName);
+                writeString(out, person.getPhone().value);
+                writeString(out, person.getEmail().value);
+                writeString(out, person.getAddress().value);
+                out.writeInt(dictionary.get(person.getListing().value));
+                out.writeInt(person.getTags().size());
+                for (Tag tag : person.getTags()) {
+                    out.writeInt(dictionary.get(tag.tagName));
+                }
+            }
+
+            List<Property> properties = addressBook.getPropertyList();
+            out.writeInt(properties.size());
+            for (Property property : properties) {
+                writeString(out, property.getAddress().value);
+                out.writeInt(property.getPrice().getIntegerPrice());
+                writeString(out, property.getPropertyName().fullName);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static AddressBook decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        String[] dictionary = new String[in.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(in);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = in.readInt();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Name name = new Name(readString(in));
+            Phone phone = new Phone(readString(in));
+            Email email = new Email(readString(in));
+            Address address = new Address(readString(in));
+            Listing listing = Listing.of(dictionary[in.readInt()]);
+            Tag[] tags = new Tag[in.readInt()];
+            for (int t = 0; t < tags.length; t++) {
+                tags[t] = Tag.of(dictionary[in.readInt()]);
+            }
+            persons.add(new Person(name, phone, email, address, listing, TagSet.of(Arrays.asList(tags))));
+        }
+        addressBook.addPersons(persons);
+
+        int propertyCount = in.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            seedu.address.model.property.Address address = new seedu.address.model.property.Address(readString(in));
+            Price price = new Price(in.readInt());
+            seedu.address.model.property.Name name = new seedu.address.model.property.Name(readString(in));
+            Property property = new Property(address, price, name);
+            if (addressBook.hasProperty(property)) {
+                throw new IllegalArgumentException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROPERTY);
+            }
+            addressBook.addProperty(property);
+        }
+        return addressBook;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > in.available()) {
+            throw new IOException("Corrupt string length " + length);
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
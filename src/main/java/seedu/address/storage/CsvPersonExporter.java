@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes persons to a CSV file, one row per person with the columns Name, Phone, Email, Address, Listing and Tags.
+ * Tags are separated by semicolons, and a value holding a comma, a double quote or a newline is quoted, with its
+ * double quotes doubled.
+ *
+ * Rows are formatted in chunks of {@value #CHUNK_SIZE} on the common fork/join pool, a few chunks ahead of the
+ * writer, and each chunk is written to the file in order with a single write. The file is encoded in the platform's
+ * default charset.
+ *
+ * The rows are written beside the file and moved over it only once all of them are written, so an export that fails
+ * or is cut short leaves any earlier file with the same name as it was.
+ */
+public final class CsvPersonExporter {
+
+    /** The first line of every export. */
+    public static final String HEADER = "Name,Phone,Email,Address,Listing,Tags\n";
+
+    /** The number of rows formatted and written at a time. */
+    static final int CHUNK_SIZE = 4096;
+
+    private CsvPersonExporter() {}
+
+    /**
+     * Writes {@code persons} to {@code file}, replacing anything already there, and reports the number of rows
+     * written so far to {@code progress} after each chunk.
+     */
+    public static void write(List<Person> persons, Path file, IntConsumer progress) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(progress);
+        FileUtil.createParentDirsOfFile(file);
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            writeRows(persons, tmp, progress);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Writes the header and the rows of {@code persons} to {@code file}, reporting progress as {@link #write} does.
+     */
+    private static void writeRows(List<Person> persons, Path file, IntConsumer progress) throws IOException {
+        Charset charset = Charset.defaultCharset();
+        int chunkCount = Math.max(1, (persons.size() + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        int maxInFlight = 2 * ForkJoinPool.getCommonPoolParallelism();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (chunkCount == 1 || maxInFlight < 4) {
+                for (int chunk = 0; chunk < chunkCount; chunk++) {
+                    writeFully(channel, formatChunk(persons, chunk, charset));
+                    progress.accept(endOf(persons, chunk));
+                }
+                return;
+            }
+
+            Deque<ForkJoinTask<byte[]>> inFlight = new ArrayDeque<>();
+            int nextChunk = 0;
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                while (nextChunk < chunkCount && inFlight.size() < maxInFlight) {
+                    int toFormat = nextChunk++;
+                    inFlight.add(ForkJoinPool.commonPool().submit(() -> formatChunk(persons, toFormat, charset)));
+                }
+                writeFully(channel, inFlight.remove().join());
+                progress.accept(endOf(persons, chunk));
+            }
+        }
+    }
+
+    /**
+     * Returns the rows of the persons in chunk {@code chunk}, preceded by the header if it is the first chunk.
+     */
+    private static byte[] formatChunk(List<Person> persons, int chunk, Charset charset) {
+        StringBuilder rows = new StringBuilder();
+        if (chunk == 0) {
+            rows.append(HEADER);
+        }
+        StringBuilder tags = new StringBuilder();
+        for (int i = chunk * CHUNK_SIZE; i < endOf(persons, chunk); i++) {
+            Person p = persons.get(i);
+            appendEscaped(rows, p.getName().toString()).append(',');
+            appendEscaped(rows, p.getPhone().toString()).append(',');
+            appendEscaped(rows, p.getEmail().toString()).append(',');
+            appendEscaped(rows, p.getAddress().toString()).append(',');
+            appendEscaped(rows, p.getListing().toString()).append(',');
+            tags.setLength(0);
+            for (Tag tag : p.getTags()) {
+                if (tags.length() > 0) {
+                    tags.append(';');
+                }
+                tags.append(tag);
+            }
+            appendEscaped(rows, tags).append('\n');
+        }
+        return rows.toString().getBytes(charset);
+    }
+
+    /**
+     * Appends {@code value} to {@code row}, quoted if it holds a comma, a double quote or a newline.
+     */
+    private static StringBuilder appendEscaped(StringBuilder row, CharSequence value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n';
+        }
+        if (!needsQuotes) {
+            return row.append(value);
+        }
+
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        return row.append('"');
+    }
+
+    private static int endOf(List<Person> persons, int chunk) {
+        return Math.min(persons.size(), (chunk + 1) * CHUNK_SIZE);
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * The size, modification time and content checksum of a file at one point in time.
+ * Used to tell whether a file still holds what was read from it: the size and modification time are compared first,
+ * and the contents are only checksummed again if both match, since a modification time can be too coarse to show
+ * an edit made in the same instant.
+ */
+final class FileFingerprint {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final long size;
+    private final long lastModified;
+    private final long checksum;
+
+    private FileFingerprint(long size, long lastModified, long checksum) {
+        this.size = size;
+        this.lastModified = lastModified;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the fingerprint of {@code file} as it is now.
+     *
+     * @throws IOException if the file does not exist or cannot be read.
+     */
+    static FileFingerprint of(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileFingerprint(attributes.size(), attributes.lastModifiedTime().toMillis(), checksum(file));
+    }
+
+    /**
+     * Opens {@code file} for reading through a stream that checksums the bytes read, so that the fingerprint of the
+     * file can be taken from them once the stream is closed, without reading the file again.
+     *
+     * @throws IOException if the file does not exist or cannot be opened.
+     */
+    static FingerprintingStream open(Path file) throws IOException {
+        return new FingerprintingStream(file);
+    }
+
+    /**
+     * Returns true if {@code file} still has this fingerprint.
+     * Returns false if the file no longer exists or cannot be read.
+     */
+    boolean matches(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return hasAttributes(attributes) && checksum(file) == checksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns true if this fingerprint was taken while the file had the given size and modification time.
+     */
+    boolean hasAttributes(BasicFileAttributes attributes) {
+        return attributes.size() == size && attributes.lastModifiedTime().toMillis() == lastModified;
+    }
+
+    /**
+     * Writes this fingerprint to {@code out}, to be read back by {@link #readFrom(DataInput)}.
+     */
+    void writeTo(DataOutput out) throws IOException {
+        out.writeLong(size);
+        out.writeLong(lastModified);
+        out.writeLong(checksum);
+    }
+
+    /**
+     * Reads a fingerprint written by {@link #writeTo(DataOutput)}.
+     */
+    static FileFingerprint readFrom(DataInput in) throws IOException {
+        return new FileFingerprint(in.readLong(), in.readLong(), in.readLong());
+    }
+
+    /**
+     * A stream of the bytes of a file that works out the file's fingerprint from them. Closing the stream reads
+     * whatever is left of the file first, so the checksum covers all of it.
+     */
+    static final class FingerprintingStream extends CheckedInputStream {
+        private final Path file;
+        private final BasicFileAttributes attributes;
+        private boolean isClosed;
+
+        private FingerprintingStream(Path file) throws IOException {
+            super(Files.newInputStream(file), new CRC32C());
+            this.file = file;
+            this.attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (isClosed) {
+                return;
+            }
+            try {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                while (read(buffer) != -1) {
+                    // read only to update the checksum
+                }
+            } finally {
+                isClosed = true;
+                super.close();
+            }
+        }
+
+        /**
+         * Returns the fingerprint of the file as it was read through this stream, which must be closed, or null if
+         * the file changed while it was being read.
+         */
+        FileFingerprint fingerprint() throws IOException {
+            assert isClosed : "the stream must be closed before its fingerprint is taken";
+            BasicFileAttributes after = Files.readAttributes(file, BasicFileAttributes.class);
+            FileFingerprint fingerprint = new FileFingerprint(attributes.size(),
+                    attributes.lastModifiedTime().toMillis(), getChecksum().getValue());
+            return fingerprint.hasAttributes(after) ? fingerprint : null;
+        }
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
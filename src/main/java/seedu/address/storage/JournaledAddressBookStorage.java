@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * A {@link JsonAddressBookStorage} that saves edits to persons by appending them to a journal next to the data file,
+ * instead of rewriting the whole data file after every command.
+ *
+ * The data file stays a full snapshot in the usual format. Once it is told which address book matches the data on
+ * disk (see {@link #trackAddressBook(ReadOnlyAddressBook)}), each save appends one compact line per person added,
+ * edited or removed since the previous save, and forces the journal to disk. Reading replays the journal on top of
+ * the snapshot.
+ *
+ * A fresh snapshot is written, and the journal emptied, when a change cannot be journaled (clearing or reloading the
+ * book, or any change to properties), when the journal outgrows half the snapshot, and on
+ * {@link #compactAddressBook()}.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    /** The journal may always grow to this size before a snapshot is forced, however small the snapshot is. */
+    static final long MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path journalPath;
+    private final ListChangeListener<Person> personListener = this::recordPersonChanges;
+    private final ListChangeListener<Property> propertyListener = change -> requireSnapshot();
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private final List<JsonAdaptedJournalRecord> pendingRecords = new ArrayList<>();
+    private boolean isSnapshotRequired;
+    private long snapshotSize;
+    private long journalSize;
+
+    /**
+     * Constructs a {@code JournaledAddressBookStorage} whose journal sits next to {@code filePath}.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        super(filePath);
+        journalPath = filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    /**
+     * Reads the snapshot as {@link JsonAddressBookStorage} does, then replays the journal onto the valid entries.
+     * Journal records that no longer apply, such as an edit to a person who is gone, are skipped with a warning.
+     */
+    @Override
+    public LoadReport readAddressBookWithReport(Path file) throws DataLoadingException {
+        LoadReport report = super.readAddressBookWithReport(file);
+        if (file.equals(getAddressBookFilePath())) {
+            replayJournal(report.getModelData().getAddressBook());
+        }
+        return report;
+    }
+
+    /**
+     * Overwrites the entry in the snapshot as {@link JsonAddressBookStorage} does, then replays the journal onto the
+     * valid entries of the returned report.
+     */
+    @Override
+    public LoadReport overwriteRawEntryAtIndex(int index, Person person) throws DataLoadingException, IOException {
+        LoadReport report = super.overwriteRawEntryAtIndex(index, person);
+        replayJournal(report.getModelData().getAddressBook());
+        return report;
+    }
+
+    /**
+     * Overwrites the property in the snapshot as {@link JsonAddressBookStorage} does, then replays the journal onto
+     * the valid entries of the returned report.
+     */
+    @Override
+    public LoadReport overwriteRawPropertyAtIndex(int index, Property property)
+            throws DataLoadingException, IOException {
+        LoadReport report = super.overwriteRawPropertyAtIndex(index, property);
+        replayJournal(report.getModelData().getAddressBook());
+        return report;
+    }
+
+    /**
+     * Saves {@code addressBook}. If it is the tracked address book and every change since the last save could be
+     * journaled, only those changes are appended to the journal; otherwise a full snapshot is written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(file);
+        if (!file.equals(getAddressBookFilePath())) {
+            super.saveAddressBook(addressBook, file);
+            return;
+        }
+        prepareSaveAddressBook(addressBook).write();
+    }
+
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write: the journal records pending for the
+     * tracked address book, or else a snapshot of {@code addressBook}, which becomes the tracked address book.
+     */
+    @Override
+    public synchronized SaveTask prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook != trackedAddressBook || isSnapshotRequired) {
+            return prepareSnapshot(addressBook);
+        }
+        if (pendingRecords.isEmpty()) {
+            return SaveTask.ofChanges(() -> {});
+        }
+
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (JsonAdaptedJournalRecord record : pendingRecords) {
+                lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+            }
+        } catch (JsonProcessingException e) {
+            logger.warning("Could not journal changes, writing a snapshot instead: " + e);
+            return prepareSnapshot(addressBook);
+        }
+        byte[] bytes = lines.toString().getBytes(UTF_8);
+        if (journalSize + bytes.length > Math.max(snapshotSize / 2, MIN_COMPACTION_SIZE)) {
+            return prepareSnapshot(addressBook);
+        }
+        pendingRecords.clear();
+        journalSize += bytes.length;
+        return SaveTask.ofChanges(() -> appendToJournal(bytes));
+    }
+
+    @Override
+    public synchronized void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        bind(addressBook);
+        snapshotSize = sizeOf(getAddressBookFilePath());
+        journalSize = sizeOf(journalPath);
+    }
+
+    @Override
+    public void compactAddressBook() throws IOException {
+        SaveTask snapshot;
+        synchronized (this) {
+            if (trackedAddressBook == null
+                    || journalSize == 0 && !isSnapshotRequired && pendingRecords.isEmpty()) {
+                return;
+            }
+            snapshot = prepareSnapshot(trackedAddressBook);
+        }
+        snapshot.write();
+    }
+
+    /**
+     * Starts tracking {@code addressBook} and returns a task that writes it as the new snapshot and empties the
+     * journal. The journal is emptied only after the snapshot is in place, so a crash in between at worst leaves
+     * records that are replayed again; replaying a record onto a snapshot that already contains it has no effect.
+     */
+    private SaveTask prepareSnapshot(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        bind(addressBook);
+        journalSize = 0;
+        return () -> {
+            try {
+                super.saveAddressBook(snapshot, getAddressBookFilePath());
+                Files.deleteIfExists(journalPath);
+            } catch (IOException e) {
+                requireSnapshot();
+                throw e;
+            }
+            synchronized (this) {
+                snapshotSize = sizeOf(getAddressBookFilePath());
+            }
+        };
+    }
+
+    private void appendToJournal(byte[] bytes) throws IOException {
+        try (FileChannel journal = FileChannel.open(journalPath,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            // The journal may now end in a partial record, so the next save must start afresh.
+            requireSnapshot();
+            throw e;
+        }
+    }
+
+    private void bind(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (trackedAddressBook != addressBook) {
+            if (trackedAddressBook != null) {
+                trackedAddressBook.getPersonList().removeListener(personListener);
+                trackedAddressBook.getPropertyList().removeListener(propertyListener);
+            }
+            trackedAddressBook = addressBook;
+            addressBook.getPersonList().addListener(personListener);
+            addressBook.getPropertyList().addListener(propertyListener);
+        }
+        pendingRecords.clear();
+        isSnapshotRequired = false;
+    }
+
+    /**
+     * Turns the changes to the tracked person list into journal records. Edits of a single person, removals, and
+     * additions to the end of the list are journaled, including those made in bulk; anything else, and emptying the
+     * list, requires a snapshot.
+     */
+    private synchronized void recordPersonChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next() && !isSnapshotRequired) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                requireSnapshot();
+            } else if (change.wasReplaced() && change.getRemovedSize() == 1 && change.getAddedSize() == 1) {
+                pendingRecords.add(JsonAdaptedJournalRecord.set(change.getRemoved().get(0),
+                        change.getAddedSubList().get(0)));
+            } else if (!change.wasReplaced() && change.wasRemoved() && !change.getList().isEmpty()) {
+                for (Person removed : change.getRemoved()) {
+                    pendingRecords.add(JsonAdaptedJournalRecord.remove(removed));
+                }
+            } else if (!change.wasReplaced() && change.wasAdded() && change.getTo() == change.getList().size()) {
+                for (Person added : change.getAddedSubList()) {
+                    pendingRecords.add(JsonAdaptedJournalRecord.add(added));
+                }
+            } else {
+                requireSnapshot();
+            }
+        }
+    }
+
+    private synchronized void requireSnapshot() {
+        isSnapshotRequired = true;
+        pendingRecords.clear();
+    }
+
+    /**
+     * Applies the journal's records to {@code addressBook} in order.
+     * Lines that cannot be parsed, such as a last record cut short by a crash, are skipped with a warning.
+     */
+    private void replayJournal(AddressBook addressBook) throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        int applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    JsonAdaptedJournalRecord record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                    if (record.applyTo(addressBook)) {
+                        applied++;
+                    } else {
+                        logger.warning("Skipped journal record " + lineNumber + " as it no longer applies");
+                    }
+                } catch (IOException | IllegalValueException e) {
+                    logger.warning("Skipped unreadable journal record " + lineNumber + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        logger.info("Replayed " + applied + " journal record(s) from " + journalPath);
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
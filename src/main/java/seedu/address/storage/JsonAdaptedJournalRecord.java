@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonFieldUtil.toModelField;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly record of one change to the persons of an address book, as written to the journal.
+ * Records name the person they change rather than its position, so they can be replayed onto a snapshot whose
+ * quarantined entries have since been fixed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    static final String OP_ADD = "add";
+    static final String OP_SET = "set";
+    static final String OP_REMOVE = "remove";
+
+    private final String op;
+    private final String target;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("target") String target,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.target = target;
+        this.person = person;
+    }
+
+    static JsonAdaptedJournalRecord add(Person person) {
+        return new JsonAdaptedJournalRecord(OP_ADD, null, new JsonAdaptedPerson(person));
+    }
+
+    static JsonAdaptedJournalRecord set(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalRecord(OP_SET, target.getName().fullName, new JsonAdaptedPerson(editedPerson));
+    }
+
+    static JsonAdaptedJournalRecord remove(Person target) {
+        return new JsonAdaptedJournalRecord(OP_REMOVE, target.getName().fullName, null);
+    }
+
+    /**
+     * Applies this change to {@code addressBook}.
+     * Returns false, leaving {@code addressBook} unchanged, if the change no longer applies: the person to add
+     * already exists, or the person to edit or remove is gone.
+     *
+     * @throws IllegalValueException if this record is malformed.
+     */
+    boolean applyTo(AddressBook addressBook) throws IllegalValueException {
+        if (OP_ADD.equals(op) && person != null) {
+            Person toAdd = person.toModelType();
+            if (addressBook.hasPerson(toAdd)) {
+                return false;
+            }
+            addressBook.addPerson(toAdd);
+            return true;
+        }
+        if (OP_SET.equals(op) && target != null && person != null) {
+            Person editedPerson = person.toModelType();
+            Person existing = findTarget(addressBook);
+            if (existing == null || !existing.isSamePerson(editedPerson) && addressBook.hasPerson(editedPerson)) {
+                return false;
+            }
+            addressBook.setPerson(existing, editedPerson);
+            return true;
+        }
+        if (OP_REMOVE.equals(op) && target != null) {
+            Person existing = findTarget(addressBook);
+            if (existing == null) {
+                return false;
+            }
+            addressBook.removePerson(existing);
+            return true;
+        }
+        throw new IllegalValueException("Malformed journal record: " + op);
+    }
+
+    private Person findTarget(AddressBook addressBook) throws IllegalValueException {
+        Name targetName = toModelField(target, Name::new, Name.MESSAGE_CONSTRAINTS);
+        return addressBook.getPersonByName(targetName).orElse(null);
+    }
+}
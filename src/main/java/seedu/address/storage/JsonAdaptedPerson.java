@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.storage.JsonFieldUtil.toModelField;
+
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -77,42 +79,27 @@ class JsonAdaptedPerson {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = toModelField(name, Name::new, Name.MESSAGE_CONSTRAINTS);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = toModelField(phone, Phone::new, Phone.MESSAGE_CONSTRAINTS);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
         }
-        if (!Email.isValidEmail(email)) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = toModelField(email, Email::new, Email.MESSAGE_CONSTRAINTS);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = toModelField(address, Address::new, Address.MESSAGE_CONSTRAINTS);
 
         if (listing == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Listing.class.getSimpleName()));
         }
-        if (!Listing.isValidListing(listing)) {
-            throw new IllegalValueException(Listing.MESSAGE_CONSTRAINTS);
-        }
-        final Listing modelListing = new Listing(listing);
+        final Listing modelListing = toModelField(listing, Listing::of, Listing.MESSAGE_CONSTRAINTS);
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
         return new Person(modelName, modelPhone, modelEmail, modelAddress, modelListing, modelTags);
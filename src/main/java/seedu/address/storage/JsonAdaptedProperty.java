@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.storage.JsonFieldUtil.toModelField;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -53,26 +55,17 @@ class JsonAdaptedProperty {
         if (propertyName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(propertyName)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(propertyName);
+        final Name modelName = toModelField(propertyName, Name::new, Name.MESSAGE_CONSTRAINTS);
 
         if (price == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Price.class.getSimpleName()));
         }
-        if (!Price.isValidPrice(price)) {
-            throw new IllegalValueException(Price.MESSAGE_CONSTRAINTS);
-        }
-        final Price modelPrice = new Price(price);
+        final Price modelPrice = toModelField(price, Price::new, Price.MESSAGE_CONSTRAINTS);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = toModelField(address, Address::new, Address.MESSAGE_CONSTRAINTS);
 
         return new Property(modelAddress, modelPrice, modelName);
     }
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a {@link SegmentedAddressBookStorage}: the segment files holding the persons and the
+ * properties, in order, and how many records each holds.
+ */
+class JsonAdaptedSegmentManifest {
+
+    private final int nextSegmentId;
+    private final List<Entry> persons = new ArrayList<>();
+    private final List<Entry> properties = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentManifest(@JsonProperty("nextSegmentId") int nextSegmentId,
+            @JsonProperty("persons") List<Entry> persons, @JsonProperty("properties") List<Entry> properties) {
+        this.nextSegmentId = nextSegmentId;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (properties != null) {
+            this.properties.addAll(properties);
+        }
+    }
+
+    int getNextSegmentId() {
+        return nextSegmentId;
+    }
+
+    List<Entry> getPersons() {
+        return persons;
+    }
+
+    List<Entry> getProperties() {
+        return properties;
+    }
+
+    /**
+     * One segment file and the number of records it holds.
+     */
+    static class Entry {
+        private final String file;
+        private final int count;
+
+        /**
+         * Constructs an {@code Entry} with the given details.
+         */
+        @JsonCreator
+        public Entry(@JsonProperty("file") String file, @JsonProperty("count") int count) {
+            this.file = file;
+            this.count = count;
+        }
+
+        String getFile() {
+            return file;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+}
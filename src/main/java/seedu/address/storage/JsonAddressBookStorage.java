@@ -4,8 +4,14 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -28,12 +34,26 @@ import seedu.address.model.property.Property;
  * Besides the usual read/write, this class offers:
  * - readAddressBookWithReport(Path): parse while collecting invalid entries;
  * - overwriteRawEntryAtIndex(int, Person): in-place JSON array element replacement.
+ *
+ * The storage remembers where each record of its data file lies (see {@link JsonRecordIndex}) as it reads the file,
+ * so that an in-place replacement splices in the bytes of the new record without parsing the file again.
+ *
+ * Whenever the data file is written, or read without any invalid entries, a binary copy of it is written alongside
+ * (see {@link BinaryAddressBookSnapshot}). Reads of the data file load that copy instead while the data file is
+ * unchanged. Data files with invalid entries are always read from the JSON, which is what reports them.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final ObjectMapper RAW_MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final String PERSONS_FIELD = "persons";
+    private static final String PROPERTIES_FIELD = "properties";
+    /** How far back from a record to look for the start of its line. */
+    private static final int MAX_INDENT_SEARCH = 1024;
 
     private final Path filePath;
+    /** Where the records of the data file lie, as last read or written by this storage, or null if unknown. */
+    private volatile JsonRecordIndex recordIndex;
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = requireNonNull(filePath);
@@ -52,17 +72,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path file) throws DataLoadingException {
         requireNonNull(file);
-        Optional<JsonSerializableAddressBook> jsonAddressBook =
-                JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class);
-        if (jsonAddressBook.isEmpty()) {
+        if (!Files.exists(file)) {
             return Optional.empty();
         }
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+
+        LoadReport report = readAddressBookWithReport(file);
+        if (!report.getInvalids().isEmpty()) {
+            String reason = report.getInvalids().get(0).reason();
+            logger.info("Illegal values found in " + file + ": " + reason);
+            throw new DataLoadingException(new IllegalValueException(reason));
         }
+        return Optional.of(report.getModelData().getAddressBook());
     }
 
     @Override
@@ -74,134 +94,305 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path file) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(file);
+        if (file.equals(filePath)) {
+            recordIndex = null;
+        }
         FileUtil.createIfMissing(file);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), file);
+        if (file.equals(filePath)) {
+            writeBinarySnapshot(addressBook, FileFingerprint.of(file));
+        }
     }
 
     /**
      * Reads JSON and returns a LoadReport containing:
      *  - model snapshot constructed from valid records;
      *  - a list of invalid records with reasons (quarantined).
+     * The file is streamed one record at a time rather than read into memory whole.
      */
     @Override
     public LoadReport readAddressBookWithReport(Path file) throws DataLoadingException {
         requireNonNull(file);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook =
-                JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class);
-
-        if (jsonAddressBook.isEmpty()) {
+        if (!Files.exists(file)) {
             return new LoadReport(
                     new LoadReport.ModelData(new seedu.address.model.AddressBook()),
                     java.util.Collections.emptyList());
         }
-
-        try {
-            return jsonAddressBook.get().toModelTypeWithReport();
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
-            throw new DataLoadingException(ive);
+        logger.info("JSON file " + file + " found.");
+        if (file.equals(filePath)) {
+            LoadReport report = readBinarySnapshot();
+            if (report != null) {
+                return report;
+            }
         }
+        return readIndexed(file);
     }
 
     /**
      * Replaces exactly one element in the raw JSON "persons" array at the specified index,
-     * writes back atomically, then re-reads and returns a fresh LoadReport.
+     * writes back atomically, then returns a fresh LoadReport.
+     * Only the bytes of that element are rewritten, and the report is worked out from the previous one wherever the
+     * change cannot affect how other entries load.
      */
     @Override
     public LoadReport overwriteRawEntryAtIndex(int index, Person person)
             throws DataLoadingException, IOException {
         requireNonNull(person);
+        JsonAdaptedPerson replacement = new JsonAdaptedPerson(person);
 
-        final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
-        final File file = filePath.toFile();
+        JsonRecordIndex records = currentRecordIndex();
+        if (records == null) {
+            return overwriteByRewriting(PERSONS_FIELD, index, replacement);
+        }
+        checkIndex(index, records.personCount());
+        if (!splice(records, records.personStart(index), records.personEnd(index), replacement)) {
+            return overwriteByRewriting(PERSONS_FIELD, index, replacement);
+        }
 
-        FileUtil.createIfMissing(filePath);
+        Person loaded;
+        try {
+            loaded = replacement.toModelType();
+        } catch (IllegalValueException e) {
+            return readIndexed(filePath);
+        }
+        LoadReport report = records.replacePerson(index, loaded);
+        return report != null ? report : readIndexed(filePath);
+    }
 
-        ObjectNode root;
-        var node = mapper.readTree(file);
-        if (node == null || !node.isObject()) {
-            root = mapper.createObjectNode();
-            root.set("persons", mapper.createArrayNode());
-        } else {
-            root = (ObjectNode) node;
+    /**
+     * Replaces exactly one element in the raw JSON "properties" array at the specified index,
+     * writes back atomically, then returns a fresh LoadReport.
+     *
+     * @see #overwriteRawEntryAtIndex(int, Person)
+     */
+    public LoadReport overwriteRawPropertyAtIndex(int index, Property property)
+            throws DataLoadingException, IOException {
+        requireNonNull(property);
+        JsonAdaptedProperty replacement = new JsonAdaptedProperty(property);
+
+        JsonRecordIndex records = currentRecordIndex();
+        if (records == null) {
+            return overwriteByRewriting(PROPERTIES_FIELD, index, replacement);
+        }
+        checkIndex(index, records.propertyCount());
+        if (!splice(records, records.propertyStart(index), records.propertyEnd(index), replacement)) {
+            return overwriteByRewriting(PROPERTIES_FIELD, index, replacement);
+        }
+
+        Property loaded;
+        try {
+            loaded = replacement.toModelType();
+        } catch (IllegalValueException e) {
+            return readIndexed(filePath);
+        }
+        LoadReport report = records.replaceProperty(index, loaded);
+        return report != null ? report : readIndexed(filePath);
+    }
+
+    /**
+     * Returns the data file as loaded from its binary copy, or null if there is no up-to-date copy to load.
+     */
+    private LoadReport readBinarySnapshot() {
+        Path snapshotFile = BinaryAddressBookSnapshot.pathFor(filePath);
+        try {
+            Optional<seedu.address.model.AddressBook> addressBook =
+                    BinaryAddressBookSnapshot.read(snapshotFile, filePath);
+            if (addressBook.isEmpty()) {
+                return null;
+            }
+            logger.info("Loaded data from up-to-date binary copy " + snapshotFile);
+            recordIndex = null;
+            return new LoadReport(new LoadReport.ModelData(addressBook.get()), java.util.Collections.emptyList(),
+                    BinaryAddressBookSnapshot.readSource(snapshotFile));
+        } catch (IOException e) {
+            logger.warning("Could not load binary copy " + snapshotFile + ", reading the data file instead: " + e);
+            return null;
         }
+    }
 
-        var personsNode = root.get("persons");
-        if (personsNode == null) {
-            personsNode = mapper.createArrayNode();
-            root.set("persons", personsNode);
+    /**
+     * Writes the binary copy of the data file, which holds {@code addressBook} and has {@code fingerprint}.
+     * Failing to do so only costs the next read its speed, so the failure is logged rather than thrown.
+     */
+    private void writeBinarySnapshot(ReadOnlyAddressBook addressBook, FileFingerprint fingerprint) {
+        Path snapshotFile = BinaryAddressBookSnapshot.pathFor(filePath);
+        try {
+            BinaryAddressBookSnapshot.write(snapshotFile, addressBook, fingerprint);
+        } catch (IOException e) {
+            logger.warning("Could not write binary copy " + snapshotFile + ": " + e);
         }
-        if (!personsNode.isArray()) {
-            throw new IOException("'persons' is not a JSON array in " + filePath);
+    }
+
+    /**
+     * Streams {@code file} into a LoadReport, keeping the index of its records if it is the data file.
+     * The file's fingerprint is taken from the same bytes, so the file is read only once.
+     */
+    private LoadReport readIndexed(Path file) throws DataLoadingException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            JsonRecordIndex.Builder records = new JsonRecordIndex.Builder();
+            FileFingerprint.FingerprintingStream in = FileFingerprint.open(file);
+            LoadReport report;
+            try (in) {
+                report = JsonAddressBookStreamReader.read(in, records);
+            }
+            FileFingerprint fingerprint = in.fingerprint();
+            if (fingerprint != null && !fingerprint.hasAttributes(attributes)) {
+                fingerprint = null;
+            }
+            if (file.equals(filePath)) {
+                recordIndex = records.build(report, attributes);
+                if (report.getInvalids().isEmpty() && fingerprint != null) {
+                    writeBinarySnapshot(report.getModelData().getAddressBook(), fingerprint);
+                }
+            }
+            return report.withSourceFingerprint(fingerprint);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + file + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
         }
-        ArrayNode persons = (ArrayNode) personsNode;
+    }
 
-        if (index < 0 || index >= persons.size()) {
-            throw new IOException("Index out of bounds: " + index + " (size=" + persons.size() + ")");
+    /**
+     * Returns the index of the records in the data file, reading the file to build it if it is missing or stale.
+     * Returns null if the file cannot be indexed, such as when it is not a well-formed address book.
+     */
+    private JsonRecordIndex currentRecordIndex() {
+        JsonRecordIndex records = recordIndex;
+        if (records != null && records.isCurrentFor(filePath)) {
+            return records;
+        }
+        if (!Files.exists(filePath)) {
+            return null;
         }
+        try {
+            readIndexed(filePath);
+        } catch (DataLoadingException e) {
+            return null;
+        }
+        return recordIndex;
+    }
 
-        ObjectNode replacement = (ObjectNode) mapper.valueToTree(new JsonAdaptedPerson(person));
-        persons.set(index, replacement);
+    private static void checkIndex(int index, int size) throws IOException {
+        if (index < 0 || index >= size) {
+            throw new IOException("Index out of bounds: " + index + " (size=" + size + ")");
+        }
+    }
 
+    /**
+     * Replaces the record between the byte offsets {@code start} and {@code end} of the data file with
+     * {@code replacement}, pretty-printed and indented to match the line it starts on. The spliced file is written
+     * beside the data file and then moved over it.
+     *
+     * @return false, leaving the file untouched, if those bytes do not hold a JSON object after all.
+     */
+    private boolean splice(JsonRecordIndex records, long start, long end, Object replacement) throws IOException {
         Path tmp = filePath.resolveSibling(filePath.getFileName() + ".tmp");
-        mapper.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), root);
-        java.nio.file.Files.move(
-                tmp, filePath,
-                java.nio.file.StandardCopyOption.REPLACE_EXISTING,
-                java.nio.file.StandardCopyOption.ATOMIC_MOVE
-        );
+        long replacementLength;
+        try (FileChannel source = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (!holdsObject(source, start, end)) {
+                logger.warning("Record index of " + filePath + " is out of date, rewriting the file instead");
+                recordIndex = null;
+                return false;
+            }
+
+            String json = JsonUtil.toJsonString(replacement).replace("\n", "\n" + indentOfLineAt(source, start));
+            ByteBuffer bytes = ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+            replacementLength = bytes.remaining();
+            try (FileChannel target = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                transferFully(source, 0, start, target);
+                while (bytes.hasRemaining()) {
+                    target.write(bytes);
+                }
+                transferFully(source, end, source.size() - end, target);
+            }
+        }
+        Files.move(tmp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records.spliced(start, end, replacementLength, filePath);
+        return true;
+    }
 
-        return readAddressBookWithReport(filePath);
+    private static boolean holdsObject(FileChannel file, long start, long end) throws IOException {
+        if (start < 0 || end - start < 2 || end > file.size()) {
+            return false;
+        }
+        ByteBuffer first = ByteBuffer.allocate(1);
+        ByteBuffer last = ByteBuffer.allocate(1);
+        return file.read(first, start) == 1 && file.read(last, end - 1) == 1
+                && first.get(0) == '{' && last.get(0) == '}';
     }
 
     /**
-     * Replaces exactly one element in the raw JSON "properties" array at the specified index,
-     * writes back atomically, then re-reads and returns a fresh LoadReport.
+     * Returns the spaces and tabs that begin the line containing the byte offset {@code position}.
      */
-    public LoadReport overwriteRawPropertyAtIndex(int index, Property property)
-            throws DataLoadingException, IOException {
-        requireNonNull(property);
+    private static String indentOfLineAt(FileChannel file, long position) throws IOException {
+        int length = (int) Math.min(position, MAX_INDENT_SEARCH);
+        ByteBuffer before = ByteBuffer.allocate(length);
+        while (before.hasRemaining()) {
+            if (file.read(before, position - length + before.position()) < 0) {
+                break;
+            }
+        }
+        int lineStart = length;
+        while (lineStart > 0 && before.get(lineStart - 1) != '\n') {
+            lineStart--;
+        }
+        StringBuilder indent = new StringBuilder();
+        for (int i = lineStart; i < length && (before.get(i) == ' ' || before.get(i) == '\t'); i++) {
+            indent.append((char) before.get(i));
+        }
+        return indent.toString();
+    }
 
-        final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+    private static void transferFully(FileChannel source, long position, long count, FileChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < count) {
+            transferred += source.transferTo(position + transferred, count - transferred, target);
+        }
+    }
+
+    /**
+     * Replaces the element at {@code index} of the array {@code field} by parsing the whole data file into a tree,
+     * writes the tree back atomically, then re-reads the file. Used when the file cannot be indexed.
+     */
+    private LoadReport overwriteByRewriting(String field, int index, Object replacement)
+            throws DataLoadingException, IOException {
         final File file = filePath.toFile();
 
         FileUtil.createIfMissing(filePath);
 
         ObjectNode root;
-        var node = mapper.readTree(file);
+        var node = RAW_MAPPER.readTree(file);
         if (node == null || !node.isObject()) {
-            root = mapper.createObjectNode();
-            root.set("properties", mapper.createArrayNode());
+            root = RAW_MAPPER.createObjectNode();
+            root.set(field, RAW_MAPPER.createArrayNode());
         } else {
             root = (ObjectNode) node;
         }
 
-        var propertiesNode = root.get("properties");
-        if (propertiesNode == null) {
-            propertiesNode = mapper.createArrayNode();
-            root.set("properties", propertiesNode);
+        var arrayNode = root.get(field);
+        if (arrayNode == null) {
+            arrayNode = RAW_MAPPER.createArrayNode();
+            root.set(field, arrayNode);
         }
-        if (!propertiesNode.isArray()) {
-            throw new IOException("'properties' is not a JSON array in " + filePath);
+        if (!arrayNode.isArray()) {
+            throw new IOException("'" + field + "' is not a JSON array in " + filePath);
         }
-        ArrayNode properties = (ArrayNode) propertiesNode;
+        ArrayNode array = (ArrayNode) arrayNode;
+        checkIndex(index, array.size());
 
-        if (index < 0 || index >= properties.size()) {
-            throw new IOException("Index out of bounds: " + index + " (size=" + properties.size() + ")");
-        }
-
-        ObjectNode replacement = (ObjectNode) mapper.valueToTree(new JsonAdaptedProperty(property));
-        properties.set(index, replacement);
+        array.set(index, RAW_MAPPER.valueToTree(replacement));
 
         Path tmp = filePath.resolveSibling(filePath.getFileName() + ".tmp");
-        mapper.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), root);
-        java.nio.file.Files.move(
-                tmp, filePath,
-                StandardCopyOption.REPLACE_EXISTING,
-                StandardCopyOption.ATOMIC_MOVE
-        );
-
-        return readAddressBookWithReport(filePath);
+        RAW_MAPPER.writerWithDefaultPrettyPrinter().writeValue(tmp.toFile(), root);
+        Files.move(tmp, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return readIndexed(filePath);
     }
 }
@@ -0,0 +1,163 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book JSON file record by record.
+ * Persons are deserialized and gathered into batches of a few thousand, and each batch is validated (in parallel,
+ * once it is large enough) and added to the {@link LoadReport} before the next is read. Properties are added as soon
+ * as they are read. Neither the file contents nor the full list of adapted records is ever held in memory. The byte
+ * range of each record is noted in a {@link JsonRecordIndex.Builder} on the way.
+ * Accepts the same documents as {@link JsonSerializableAddressBook}: unknown fields are skipped and missing or
+ * {@code null} lists are treated as empty.
+ */
+class JsonAddressBookStreamReader {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String PROPERTIES_FIELD = "properties";
+
+    /** Number of persons read ahead and converted together. At least {@link PersonConversion#PARALLEL_THRESHOLD}. */
+    private static final int BATCH_SIZE = 4 * PersonConversion.PARALLEL_THRESHOLD;
+
+    /**
+     * Reads {@code file} into a {@code LoadReport}, adding each record to {@code recordIndex}.
+     *
+     * @throws IOException if the file cannot be read or is not a well-formed address book document.
+     * @throws IllegalValueException if a property is invalid or duplicated.
+     */
+    static LoadReport read(Path file, JsonRecordIndex.Builder recordIndex)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(file)) {
+            return read(parser, recordIndex);
+        }
+    }
+
+    /**
+     * Reads the address book document in {@code in} into a {@code LoadReport} as {@link #read(Path,
+     * JsonRecordIndex.Builder)} does, and closes {@code in}.
+     */
+    static LoadReport read(InputStream in, JsonRecordIndex.Builder recordIndex)
+            throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return read(parser, recordIndex);
+        }
+    }
+
+    private static LoadReport read(JsonParser parser, JsonRecordIndex.Builder recordIndex)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Address book file should contain a JSON object");
+        }
+
+        LoadReportBuilder builder = new LoadReportBuilder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (PERSONS_FIELD.equals(field) && startArray(parser, field)) {
+                PersonBatch batch = new PersonBatch(builder, recordIndex);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    long start = parser.getTokenLocation().getByteOffset();
+                    JsonAdaptedPerson record =
+                            readRecord(parser, JsonAdaptedPerson.class, field, batch.nextIndex());
+                    long end = parser.getCurrentLocation().getByteOffset();
+                    batch.add(start, end, record);
+                }
+                batch.flush();
+            } else if (PROPERTIES_FIELD.equals(field) && startArray(parser, field)) {
+                int index = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    long start = parser.getTokenLocation().getByteOffset();
+                    JsonAdaptedProperty record = readRecord(parser, JsonAdaptedProperty.class, field, index);
+                    long end = parser.getCurrentLocation().getByteOffset();
+                    recordIndex.addProperty(start, end, builder.addProperty(record));
+                    index++;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns true if the parser is at the start of the array held by {@code field}, or false if {@code field} is
+     * {@code null}.
+     *
+     * @throws JsonParseException if {@code field} holds anything else.
+     */
+    private static boolean startArray(JsonParser parser, String field) throws JsonParseException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "'" + field + "' is not a JSON array");
+        }
+        return true;
+    }
+
+    /**
+     * Deserializes the record at the parser's current position.
+     *
+     * @throws JsonParseException if the record is {@code null}.
+     */
+    private static <T> T readRecord(JsonParser parser, Class<T> recordClass, String field, int index)
+            throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            throw new JsonParseException(parser, "'" + field + "' entry " + index + " is null");
+        }
+        return parser.readValueAs(recordClass);
+    }
+
+    /**
+     * Persons read but not yet added to the report, together with their byte ranges.
+     */
+    private static final class PersonBatch {
+        private final LoadReportBuilder builder;
+        private final JsonRecordIndex.Builder recordIndex;
+        private final List<JsonAdaptedPerson> records = new ArrayList<>();
+        private final long[] starts = new long[BATCH_SIZE];
+        private final long[] ends = new long[BATCH_SIZE];
+        private int firstIndex = 0;
+
+        PersonBatch(LoadReportBuilder builder, JsonRecordIndex.Builder recordIndex) {
+            this.builder = builder;
+            this.recordIndex = recordIndex;
+        }
+
+        /** Returns the index in the source of the next record to be added. */
+        int nextIndex() {
+            return firstIndex + records.size();
+        }
+
+        void add(long start, long end, JsonAdaptedPerson record) {
+            starts[records.size()] = start;
+            ends[records.size()] = end;
+            records.add(record);
+            if (records.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /** Adds the pending records to the report and the record index, in source order. */
+        void flush() {
+            Person[] added = builder.addPersons(firstIndex, records);
+            for (int i = 0; i < added.length; i++) {
+                recordIndex.addPerson(starts[i], ends[i], added[i]);
+            }
+            firstIndex += records.size();
+            records.clear();
+        }
+    }
+}
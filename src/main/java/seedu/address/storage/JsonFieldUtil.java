@@ -0,0 +1,26 @@
+package seedu.address.storage;
+
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for converting the fields of Jackson-friendly adapted objects into model values.
+ */
+class JsonFieldUtil {
+
+    /**
+     * Returns {@code constructor} applied to {@code value}.
+     * The model constructor validates {@code value} itself, so it is not validated again beforehand.
+     *
+     * @throws IllegalValueException with {@code constraintsMessage} if the model constructor rejects {@code value}.
+     */
+    static <T, R> R toModelField(T value, Function<T, R> constructor, String constraintsMessage)
+            throws IllegalValueException {
+        try {
+            return constructor.apply(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(constraintsMessage);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * Where each person and property record lies in an address book JSON file, and what loading the file made of it.
+ * With this, one record can be replaced by splicing new bytes into the file, and the {@link LoadReport} for the
+ * result worked out without parsing the file again.
+ *
+ * The index describes the file only while its size and modification time are the ones it was built against; any
+ * other change to the file leaves it stale.
+ *
+ * Identity checks are answered from maps of names to records, and each report's valid data is the previous report's
+ * snapshot with the one record changed, so replacing a record takes O(log n) time rather than reloading every record.
+ */
+final class JsonRecordIndex {
+
+    private long fileSize;
+    private FileTime lastModified;
+
+    private final long[] personStarts;
+    private final long[] personEnds;
+    private final long[] propertyStarts;
+    private final long[] propertyEnds;
+
+    /** The person each person record was loaded as, or null where the record was quarantined. */
+    private final Person[] persons;
+    private final Property[] properties;
+    private final List<LoadReport.InvalidPersonEntry> invalids;
+
+    /** The index of the record each loaded person and property was loaded from, by name. */
+    private final Map<Name, Integer> personRecordsByName = new HashMap<>();
+    private final Map<seedu.address.model.property.Name, Integer> propertyRecordsByName = new HashMap<>();
+    /** The valid data of the file as it was last reported. */
+    private AddressBookSnapshot loaded;
+
+    private JsonRecordIndex(Builder builder, LoadReport report, BasicFileAttributes file) {
+        this.personStarts = builder.personStarts.toArray();
+        this.personEnds = builder.personEnds.toArray();
+        this.propertyStarts = builder.propertyStarts.toArray();
+        this.propertyEnds = builder.propertyEnds.toArray();
+        this.persons = builder.persons.toArray(new Person[0]);
+        this.properties = builder.properties.toArray(new Property[0]);
+        this.invalids = new ArrayList<>(report.getInvalids());
+        this.loaded = AddressBookSnapshot.of(report.getModelData().getReadOnlyAddressBook());
+        this.fileSize = file.size();
+        this.lastModified = file.lastModifiedTime();
+        for (int i = 0; i < persons.length; i++) {
+            if (persons[i] != null) {
+                personRecordsByName.put(persons[i].getName(), i);
+            }
+        }
+        for (int i = 0; i < properties.length; i++) {
+            propertyRecordsByName.put(properties[i].getPropertyName(), i);
+        }
+    }
+
+    /**
+     * Returns true if {@code file} still has the size and modification time this index was built against.
+     */
+    boolean isCurrentFor(Path file) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            return attributes.size() == fileSize && attributes.lastModifiedTime().equals(lastModified);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    int personCount() {
+        return persons.length;
+    }
+
+    int propertyCount() {
+        return properties.length;
+    }
+
+    long personStart(int index) {
+        return personStarts[index];
+    }
+
+    long personEnd(int index) {
+        return personEnds[index];
+    }
+
+    long propertyStart(int index) {
+        return propertyStarts[index];
+    }
+
+    long propertyEnd(int index) {
+        return propertyEnds[index];
+    }
+
+    /**
+     * Records that the bytes from {@code start} to {@code end} of the file were replaced by {@code newLength} bytes,
+     * leaving {@code file} as it now is.
+     */
+    void spliced(long start, long end, long newLength, Path file) throws IOException {
+        long shift = newLength - (end - start);
+        shiftFrom(personStarts, personEnds, end, shift);
+        shiftFrom(propertyStarts, propertyEnds, end, shift);
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        fileSize = attributes.size();
+        lastModified = attributes.lastModifiedTime();
+    }
+
+    /**
+     * Records that the person record at {@code index} now loads as {@code person}, and returns the resulting report.
+     * Returns null, leaving the index as it was, if the change could alter how other records load: that is, if
+     * another loaded person already has {@code person}'s name, or if a record quarantined as a duplicate of the
+     * person replaced would no longer be one.
+     */
+    LoadReport replacePerson(int index, Person person) {
+        Person replaced = persons[index];
+        if (isRecordOtherThan(personRecordsByName.get(person.getName()), index)) {
+            return null;
+        }
+        if (replaced != null && !replaced.isSamePerson(person)) {
+            String replacedName = replaced.getName().fullName;
+            for (LoadReport.InvalidPersonEntry invalid : invalids) {
+                if (MESSAGE_DUPLICATE_PERSON.equals(invalid.reason()) && replacedName.equals(invalid.name())) {
+                    return null;
+                }
+            }
+        }
+
+        // the loaded persons are the person records in order, less those quarantined
+        int position = index;
+        for (LoadReport.InvalidPersonEntry invalid : invalids) {
+            if (invalid.index() < index) {
+                position--;
+            }
+        }
+        if (replaced != null) {
+            personRecordsByName.remove(replaced.getName());
+            loaded = loaded.withPerson(position, person);
+        } else {
+            loaded = loaded.withPersonInserted(position, person);
+        }
+        personRecordsByName.put(person.getName(), index);
+        persons[index] = person;
+        invalids.removeIf(invalid -> invalid.index() == index);
+        return toReport();
+    }
+
+    /**
+     * Records that the property record at {@code index} now loads as {@code property}, and returns the resulting
+     * report. Returns null, leaving the index as it was, if another property is the same property.
+     */
+    LoadReport replaceProperty(int index, Property property) {
+        if (isRecordOtherThan(propertyRecordsByName.get(property.getPropertyName()), index)) {
+            return null;
+        }
+        propertyRecordsByName.remove(properties[index].getPropertyName());
+        propertyRecordsByName.put(property.getPropertyName(), index);
+        properties[index] = property;
+        loaded = loaded.withProperty(index, property);
+        return toReport();
+    }
+
+    private static boolean isRecordOtherThan(Integer record, int index) {
+        return record != null && record != index;
+    }
+
+    private LoadReport toReport() {
+        return new LoadReport(LoadReport.ModelData.of(loaded), new ArrayList<>(invalids));
+    }
+
+    private static void shiftFrom(long[] starts, long[] ends, long from, long shift) {
+        for (int i = 0; i < starts.length; i++) {
+            if (starts[i] >= from) {
+                starts[i] += shift;
+                ends[i] += shift;
+            }
+        }
+    }
+
+    /**
+     * Collects the records of a file as it is read, in order.
+     * Byte offsets are only known when the file is read as UTF-8 bytes; a builder given any unknown offset builds
+     * no index.
+     */
+    static class Builder {
+        private final LongList personStarts = new LongList();
+        private final LongList personEnds = new LongList();
+        private final LongList propertyStarts = new LongList();
+        private final LongList propertyEnds = new LongList();
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Property> properties = new ArrayList<>();
+        private boolean hasUnknownOffset;
+
+        /**
+         * Adds the person record between the byte offsets {@code start} and {@code end}, which loaded as
+         * {@code person}, or null if it was quarantined.
+         */
+        void addPerson(long start, long end, Person person) {
+            hasUnknownOffset |= start < 0 || end < 0;
+            personStarts.add(start);
+            personEnds.add(end);
+            persons.add(person);
+        }
+
+        /**
+         * Adds the property record between the byte offsets {@code start} and {@code end}.
+         */
+        void addProperty(long start, long end, Property property) {
+            hasUnknownOffset |= start < 0 || end < 0;
+            propertyStarts.add(start);
+            propertyEnds.add(end);
+            properties.add(property);
+        }
+
+        /**
+         * Returns the index of a file with {@code attributes} that loaded as {@code report}, or null if an offset was
+         * unknown. The report's address book must not have been changed since it was loaded.
+         */
+        JsonRecordIndex build(LoadReport report, BasicFileAttributes attributes) {
+            return hasUnknownOffset ? null : new JsonRecordIndex(this, report, attributes);
+        }
+    }
+
+    /**
+     * A growable list of primitive longs.
+     */
+    private static class LongList {
+        private long[] values = new long[16];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
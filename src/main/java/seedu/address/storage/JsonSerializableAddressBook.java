@@ -11,8 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
-import seedu.address.model.person.Person;
-import seedu.address.model.property.Property;
 
 /**
  * An immutable AddressBook that is serializable to and from JSON.
@@ -57,54 +55,12 @@ class JsonSerializableAddressBook {
      * encountered during conversion.
      */
     public LoadReport toModelTypeWithReport() throws IllegalValueException {
-        AddressBook model = new AddressBook();
-        List<LoadReport.InvalidPersonEntry> invalidList = new ArrayList<>();
-
-        for (int i = 0; i < persons.size(); i++) {
-            JsonAdaptedPerson jap = persons.get(i);
-            try {
-                Person p = jap.toModelType();
-
-                if (model.hasPerson(p)) {
-                    invalidList.add(new LoadReport.InvalidPersonEntry(
-                            i,
-                            MESSAGE_DUPLICATE_PERSON,
-                            jap.getName(),
-                            jap.getPhone(),
-                            jap.getEmail(),
-                            jap.getAddress(),
-                            jap.getListing(),
-                            java.util.Set.of()
-                    ));
-                    continue;
-                }
-
-                model.addPerson(p);
-            } catch (IllegalValueException ive) {
-                String reason = ive.getMessage() == null ? "Invalid person" : ive.getMessage();
-                invalidList.add(new LoadReport.InvalidPersonEntry(
-                        i,
-                        reason,
-                        jap.getName(),
-                        jap.getPhone(),
-                        jap.getEmail(),
-                        jap.getAddress(),
-                        jap.getListing(),
-                        jap.invalidFieldKeys()
-                ));
-            }
-        }
-
-        for (int i = 0; i < properties.size(); i++) { // include try and catch block later on
-            JsonAdaptedProperty jap = properties.get(i);
-            Property prop = jap.toModelType();
-            if (model.hasProperty(prop)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PROPERTY);
-            }
-            model.addProperty(prop);
+        LoadReportBuilder builder = new LoadReportBuilder();
+        builder.addPersons(0, persons);
+        for (JsonAdaptedProperty jap : properties) {
+            builder.addProperty(jap);
         }
-
-        return new LoadReport(new LoadReport.ModelData(model), invalidList);
+        return builder.build();
     }
 
     /**
@@ -120,6 +76,14 @@ class JsonSerializableAddressBook {
         return report.getModelData().getAddressBook();
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<JsonAdaptedProperty> getProperties() {
+        return properties;
+    }
+
     void replaceAt(int index, JsonAdaptedPerson replacement) {
         if (index < 0 || index >= persons.size()) {
             throw new IndexOutOfBoundsException("Invalid person index: " + index);
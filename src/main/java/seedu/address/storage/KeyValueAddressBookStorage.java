@@ -0,0 +1,420 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * An {@link AddressBookStorage} that keeps the address book in an embedded {@link KeyValueStore}, with one record
+ * per person and per property, so that a save writes only the records that changed.
+ *
+ * Each record is stored as its JSON data-file form under a key that orders it among the others. Once it is told
+ * which address book matches the data on disk (see {@link #trackAddressBook(ReadOnlyAddressBook)}), the storage turns
+ * each change to that book into puts and deletes of single records, and a save commits all the changes made since
+ * the last one as one batch, which the store saves whole or not at all. Keys are handed out with wide gaps, so that a
+ * record inserted between two others gets a key of its own; anything that cannot be followed record by record, such
+ * as sorting the book, makes the next save replace every record.
+ *
+ * Records are stored as they were read, so an invalid person keeps its data, and its index, until it is fixed through
+ * {@link #overwriteRawEntryAtIndex(int, Person)}. A JSON data file can be imported once with {@link #importJson(Path)}
+ * and the store exported back to one with {@link #exportJson(Path)}.
+ */
+public class KeyValueAddressBookStorage implements AddressBookStorage {
+
+    /** The gap between the keys of neighbouring records after the records are all written again. */
+    static final long KEY_GAP = 1L << 20;
+    static final String PERSONS = "persons";
+    static final String PROPERTIES = "properties";
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueAddressBookStorage.class);
+    private static final String FILE_SUFFIX = ".kv";
+    private static final String JSON_SUFFIX = ".json";
+
+    private final Path file;
+    /** The keys of the stored records in order, as of the last save prepared or data read. */
+    private final List<Long> personKeys = new ArrayList<>();
+    private final List<Long> propertyKeys = new ArrayList<>();
+    private final ListChangeListener<Person> personListener =
+            change -> recordChanges(PERSONS, personKeys, change, JsonAdaptedPerson::new);
+    private final ListChangeListener<Property> propertyListener =
+            change -> recordChanges(PROPERTIES, propertyKeys, change, JsonAdaptedProperty::new);
+
+    private KeyValueStore store;
+    private ReadOnlyAddressBook trackedAddressBook;
+    private boolean isFullSaveRequired = true;
+    private KeyValueStore.Batch pendingChanges = new KeyValueStore.Batch();
+    /** Bumped by each failed write, so that saves prepared on top of it know not to go ahead. */
+    private int failedWrites;
+
+    /**
+     * Constructs a {@code KeyValueAddressBookStorage} that keeps the address book in {@code file}.
+     */
+    public KeyValueAddressBookStorage(Path file) {
+        this.file = requireNonNull(file);
+    }
+
+    /**
+     * Returns where the key-value store for the JSON data file {@code jsonFile} is kept: next to it, under the same
+     * name with the extension {@value #FILE_SUFFIX}.
+     */
+    public static Path pathFor(Path jsonFile) {
+        String name = jsonFile.getFileName().toString();
+        if (name.endsWith(JSON_SUFFIX)) {
+            name = name.substring(0, name.length() - JSON_SUFFIX.length());
+        }
+        return jsonFile.resolveSibling(name + FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return file;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(file);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        LoadReport report = readAddressBookWithReport(filePath);
+        if (!report.getInvalids().isEmpty()) {
+            String reason = report.getInvalids().get(0).reason();
+            logger.info("Illegal values found in " + filePath + ": " + reason);
+            throw new DataLoadingException(new IllegalValueException(reason));
+        }
+        return Optional.of(report.getModelData().getAddressBook());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, file);
+    }
+
+    /**
+     * Saves {@code addressBook} to the store as {@link #prepareSaveAddressBook(ReadOnlyAddressBook)} does, or to
+     * {@code filePath} as a JSON data file if {@code filePath} is anywhere else.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(file)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+            return;
+        }
+        prepareSaveAddressBook(addressBook).write();
+    }
+
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write: the record changes made to the
+     * tracked address book since the last save, or else every record of {@code addressBook}, which becomes the
+     * tracked address book.
+     */
+    @Override
+    public synchronized SaveTask prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook != trackedAddressBook || isFullSaveRequired) {
+            return prepareFullSave(addressBook);
+        }
+        if (pendingChanges.isEmpty()) {
+            return SaveTask.ofChanges(() -> {});
+        }
+
+        KeyValueStore.Batch changes = pendingChanges;
+        pendingChanges = new KeyValueStore.Batch();
+        int failedWritesSoFar = failedWrites;
+        return SaveTask.ofChanges(() -> {
+            synchronized (this) {
+                if (failedWrites != failedWritesSoFar) {
+                    throw new IOException("Not saved, as an earlier save failed; the next save writes every record");
+                }
+            }
+            try {
+                store().commit(changes);
+            } catch (IOException e) {
+                recordFailedWrite();
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public synchronized void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        bind(addressBook);
+        isFullSaveRequired = personKeys.size() != addressBook.getPersonList().size()
+                || propertyKeys.size() != addressBook.getPropertyList().size();
+    }
+
+    /**
+     * Rewrites the store file with only the live records, if overwritten and deleted records take up most of it.
+     */
+    @Override
+    public void compactAddressBook() throws IOException {
+        store().compactIfWasteful();
+    }
+
+    /**
+     * Reads the store, or the JSON data file {@code filePath} if {@code filePath} is anywhere else.
+     * Invalid persons are reported under their position among the stored persons.
+     */
+    @Override
+    public LoadReport readAddressBookWithReport(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(file)) {
+            return new JsonAddressBookStorage(filePath).readAddressBookWithReport(filePath);
+        }
+
+        NavigableMap<Long, byte[]> personRecords;
+        NavigableMap<Long, byte[]> propertyRecords;
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedProperty> properties = new ArrayList<>();
+        try {
+            personRecords = store().copyOf(PERSONS);
+            propertyRecords = store().copyOf(PROPERTIES);
+            for (byte[] record : personRecords.values()) {
+                persons.add(JsonUtil.fromJsonString(new String(record, UTF_8), JsonAdaptedPerson.class));
+            }
+            for (byte[] record : propertyRecords.values()) {
+                properties.add(JsonUtil.fromJsonString(new String(record, UTF_8), JsonAdaptedProperty.class));
+            }
+        } catch (IOException e) {
+            logger.warning("Could not read " + file + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+
+        LoadReportBuilder builder = new LoadReportBuilder();
+        builder.addPersons(0, persons);
+        try {
+            for (JsonAdaptedProperty property : properties) {
+                builder.addProperty(property);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        synchronized (this) {
+            // the keys of a tracked address book are known better than the disk can tell, as saves may be pending
+            if (trackedAddressBook == null) {
+                setKeys(personKeys, personRecords.keySet());
+                setKeys(propertyKeys, propertyRecords.keySet());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Replaces the stored person at {@code index} with {@code person}, then returns a fresh LoadReport.
+     * Only that one record is written.
+     */
+    @Override
+    public LoadReport overwriteRawEntryAtIndex(int index, Person person) throws DataLoadingException, IOException {
+        requireNonNull(person);
+        synchronized (this) {
+            List<Long> keys = new ArrayList<>(store().copyOf(PERSONS).keySet());
+            if (index < 0 || index >= keys.size()) {
+                throw new IOException("Index out of bounds: " + index + " (size=" + keys.size() + ")");
+            }
+            KeyValueStore.Batch batch = new KeyValueStore.Batch();
+            batch.put(PERSONS, keys.get(index), toRecord(new JsonAdaptedPerson(person)));
+            store().commit(batch);
+        }
+        return readAddressBookWithReport(file);
+    }
+
+    /**
+     * Replaces everything in the store with the records of the JSON data file {@code jsonFile}, as they are, so that
+     * invalid persons can still be fixed afterwards.
+     *
+     * @throws DataLoadingException if {@code jsonFile} cannot be read.
+     */
+    public synchronized void importJson(Path jsonFile) throws DataLoadingException, IOException {
+        requireNonNull(jsonFile);
+        JsonSerializableAddressBook contents = JsonUtil.readJsonFile(jsonFile, JsonSerializableAddressBook.class)
+                .orElseThrow(() -> new DataLoadingException(new IOException("Missing data file " + jsonFile)));
+        store().replaceAll(Map.of(PERSONS, toRecords(contents.getPersons()),
+                PROPERTIES, toRecords(contents.getProperties())));
+        // whatever was tracked no longer matches the store
+        isFullSaveRequired = true;
+        setKeys(personKeys, store().copyOf(PERSONS).keySet());
+        setKeys(propertyKeys, store().copyOf(PROPERTIES).keySet());
+        logger.info("Imported " + jsonFile + " into " + file);
+    }
+
+    /**
+     * Writes every stored record, invalid persons included, to the JSON data file {@code jsonFile}.
+     */
+    public void exportJson(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedProperty> properties = new ArrayList<>();
+        for (byte[] record : store().copyOf(PERSONS).values()) {
+            persons.add(JsonUtil.fromJsonString(new String(record, UTF_8), JsonAdaptedPerson.class));
+        }
+        for (byte[] record : store().copyOf(PROPERTIES).values()) {
+            properties.add(JsonUtil.fromJsonString(new String(record, UTF_8), JsonAdaptedProperty.class));
+        }
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, properties), jsonFile);
+    }
+
+    /**
+     * Starts tracking {@code addressBook} and returns a task that replaces every record in the store with the
+     * records of {@code addressBook}.
+     */
+    private SaveTask prepareFullSave(ReadOnlyAddressBook addressBook) {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        bind(addressBook);
+        setKeys(personKeys, evenKeys(snapshot.getPersonList().size()));
+        setKeys(propertyKeys, evenKeys(snapshot.getPropertyList().size()));
+        pendingChanges = new KeyValueStore.Batch();
+        isFullSaveRequired = false;
+        return () -> {
+            try {
+                List<JsonAdaptedPerson> persons =
+                        snapshot.getPersonList().stream().map(JsonAdaptedPerson::new).toList();
+                List<JsonAdaptedProperty> properties =
+                        snapshot.getPropertyList().stream().map(JsonAdaptedProperty::new).toList();
+                store().replaceAll(Map.of(PERSONS, toRecords(persons), PROPERTIES, toRecords(properties)));
+            } catch (IOException e) {
+                recordFailedWrite();
+                throw e;
+            }
+        };
+    }
+
+    private synchronized KeyValueStore store() throws IOException {
+        if (store == null) {
+            store = KeyValueStore.open(file);
+        }
+        return store;
+    }
+
+    private synchronized void recordFailedWrite() {
+        failedWrites++;
+        isFullSaveRequired = true;
+    }
+
+    private static TreeMap<Long, byte[]> toRecords(List<?> adapted) throws JsonProcessingException {
+        TreeMap<Long, byte[]> records = new TreeMap<>();
+        long key = 0;
+        for (Object record : adapted) {
+            key += KEY_GAP;
+            records.put(key, toRecord(record));
+        }
+        return records;
+    }
+
+    private static byte[] toRecord(Object adapted) throws JsonProcessingException {
+        return JsonUtil.toCompactJsonString(adapted).getBytes(UTF_8);
+    }
+
+    private static List<Long> evenKeys(int count) {
+        List<Long> keys = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            keys.add(i * KEY_GAP);
+        }
+        return keys;
+    }
+
+    private static void setKeys(List<Long> keys, Collection<Long> newKeys) {
+        keys.clear();
+        keys.addAll(newKeys);
+    }
+
+    private void bind(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (trackedAddressBook != addressBook) {
+            if (trackedAddressBook != null) {
+                trackedAddressBook.getPersonList().removeListener(personListener);
+                trackedAddressBook.getPropertyList().removeListener(propertyListener);
+            }
+            trackedAddressBook = addressBook;
+            addressBook.getPersonList().addListener(personListener);
+            addressBook.getPropertyList().addListener(propertyListener);
+        }
+    }
+
+    /**
+     * Turns the changes to a tracked list into puts and deletes of its records, and adjusts {@code keys} to match.
+     * A replacement of records by as many others, as a bulk edit makes, puts only the records that differ.
+     * Permutations, in-place updates and insertions with no key left between their neighbours cannot be followed
+     * record by record, so they require a full save.
+     */
+    private synchronized <T> void recordChanges(String map, List<Long> keys,
+            ListChangeListener.Change<? extends T> change, Function<T, Object> adapter) {
+        try {
+            while (change.next() && !isFullSaveRequired) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    isFullSaveRequired = true;
+                    continue;
+                }
+                int from = change.getFrom();
+                List<? extends T> added = change.getAddedSubList();
+                if (change.wasReplaced() && change.getRemovedSize() == added.size()) {
+                    List<? extends T> removed = change.getRemoved();
+                    for (int i = 0; i < added.size(); i++) {
+                        if (!removed.get(i).equals(added.get(i))) {
+                            pendingChanges.put(map, keys.get(from + i), toRecord(adapter.apply(added.get(i))));
+                        }
+                    }
+                    continue;
+                }
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    pendingChanges.delete(map, keys.remove(from));
+                }
+                for (int i = 0; i < added.size() && !isFullSaveRequired; i++) {
+                    long key = keyBefore(keys, from + i);
+                    if (key < 0) {
+                        isFullSaveRequired = true;
+                    } else {
+                        keys.add(from + i, key);
+                        pendingChanges.put(map, key, toRecord(adapter.apply(added.get(i))));
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            logger.warning("Could not convert a changed record, writing every record instead: " + e);
+            isFullSaveRequired = true;
+        }
+    }
+
+    /**
+     * Returns a key for a record inserted at {@code position} of {@code keys}, halfway between its neighbours, or -1
+     * if there is no key left between them.
+     */
+    private static long keyBefore(List<Long> keys, int position) {
+        long previous = position == 0 ? 0 : keys.get(position - 1);
+        long next = position == keys.size() ? previous + 2 * KEY_GAP : keys.get(position);
+        return next - previous < 2 ? -1 : previous + (next - previous) / 2;
+    }
+}
@@ -0,0 +1,371 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A small embedded key-value store kept in a single append-only file.
+ *
+ * The store holds named maps from {@code long} keys to byte values, all of them in memory. Changes are made in
+ * {@link Batch}es: {@link #commit(Batch)} appends a batch to the file as one frame, guarded by its length and a
+ * CRC32C, and forces it to disk before applying it in memory, so a batch is either saved whole or not at all. On
+ * opening, the frames are replayed in order; a last frame cut short by a crash fails its check and is dropped.
+ *
+ * Overwritten and deleted values stay in the file until it outgrows twice the live data, when it is rewritten with
+ * only the live values (see {@link #compactIfWasteful()}).
+ */
+final class KeyValueStore {
+
+    /** The file may always grow to this size before it is compacted, however little live data there is. */
+    static final long MIN_COMPACTION_SIZE = 1024 * 1024;
+
+    /** "ABKV". */
+    private static final int MAGIC = 0x41424B56;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FRAME_HEADER_SIZE = 12;
+    private static final int MAX_ENTRIES_PER_FRAME = 4096;
+    /** Rough size of an entry in a frame, besides its value. */
+    private static final int ENTRY_OVERHEAD = 24;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(KeyValueStore.class);
+
+    private final Path file;
+    private final Map<String, TreeMap<Long, byte[]>> maps = new HashMap<>();
+    private FileChannel channel;
+    private long liveSize;
+
+    private KeyValueStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Opens the store in {@code file}, creating an empty one if there is no such file.
+     *
+     * @throws IOException if the file cannot be read or is not a store.
+     */
+    static KeyValueStore open(Path file) throws IOException {
+        KeyValueStore store = new KeyValueStore(file);
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            writeFile(file, Map.of());
+        } else {
+            store.replay();
+        }
+        store.channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        return store;
+    }
+
+    /**
+     * Returns a copy of the map named {@code name}, which is empty if nothing was ever put in it.
+     * The copy shares the stored values, which must not be modified.
+     */
+    synchronized NavigableMap<Long, byte[]> copyOf(String name) {
+        TreeMap<Long, byte[]> map = maps.get(name);
+        return map == null ? new TreeMap<>() : new TreeMap<>(map);
+    }
+
+    /**
+     * Saves every change in {@code batch}, in order, or none of them.
+     *
+     * @throws IOException if the batch could not be written; the store is then unchanged.
+     */
+    synchronized void commit(Batch batch) throws IOException {
+        if (batch.entries.isEmpty()) {
+            return;
+        }
+        long end = channel.size();
+        try {
+            ByteBuffer frame = ByteBuffer.wrap(encodeFrame(batch.entries));
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // drop whatever part of the frame was written, so that later frames still follow a whole one
+            channel.truncate(end);
+            throw e;
+        }
+        for (Entry entry : batch.entries) {
+            apply(entry);
+        }
+        if (channel.size() > MIN_COMPACTION_SIZE) {
+            try {
+                compactIfWasteful();
+            } catch (IOException e) {
+                // the batch is saved all the same, and compaction is tried again after the next one
+                logger.warning("Could not compact " + file + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Replaces the whole contents of the store with {@code contents}, by writing a new file and moving it into
+     * place.
+     *
+     * @throws IOException if the contents could not be replaced; the store is then unchanged, and still usable.
+     */
+    synchronized void replaceAll(Map<String, ? extends SortedMap<Long, byte[]>> contents) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        writeFile(tmp, contents);
+        channel.close();
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            // reopen whichever file is now in place, so that a failed move leaves the old one in use
+            channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+
+        maps.clear();
+        liveSize = 0;
+        for (Map.Entry<String, ? extends SortedMap<Long, byte[]>> map : contents.entrySet()) {
+            for (Map.Entry<Long, byte[]> value : map.getValue().entrySet()) {
+                apply(new Entry(PUT, map.getKey(), value.getKey(), value.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with only the live values if the file is more than twice their size.
+     */
+    synchronized void compactIfWasteful() throws IOException {
+        if (channel.size() > 2 * liveSize + HEADER_SIZE) {
+            logger.info("Compacting " + file);
+            replaceAll(new HashMap<>(maps));
+        }
+    }
+
+    /**
+     * Closes the file. The store cannot be used afterwards.
+     */
+    synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static void writeFile(Path target, Map<String, ? extends SortedMap<Long, byte[]>> contents)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(target);
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                DataOutputStream data = new DataOutputStream(new BufferedOutputStream(new ChannelOutputStream(out)))) {
+            data.writeInt(MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            List<Entry> frame = new ArrayList<>();
+            for (Map.Entry<String, ? extends SortedMap<Long, byte[]>> map : contents.entrySet()) {
+                for (Map.Entry<Long, byte[]> value : map.getValue().entrySet()) {
+                    frame.add(new Entry(PUT, map.getKey(), value.getKey(), value.getValue()));
+                    if (frame.size() == MAX_ENTRIES_PER_FRAME) {
+                        data.write(encodeFrame(frame));
+                        frame.clear();
+                    }
+                }
+            }
+            if (!frame.isEmpty()) {
+                data.write(encodeFrame(frame));
+            }
+            data.flush();
+            out.force(false);
+        }
+    }
+
+    /**
+     * Reads the file into memory, and cuts off a last frame that is incomplete or fails its checksum.
+     */
+    private void replay() throws IOException {
+        long goodLength;
+        try (InputStream in = Files.newInputStream(file);
+                DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            if (data.readInt() != MAGIC) {
+                throw new IOException("Not a key-value store: " + file);
+            }
+            int version = data.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported key-value store version " + version + ": " + file);
+            }
+            goodLength = HEADER_SIZE;
+            byte[] payload;
+            while ((payload = readFramePayload(data)) != null) {
+                decodeEntries(payload).forEach(this::apply);
+                goodLength += FRAME_HEADER_SIZE + payload.length;
+            }
+        }
+
+        if (goodLength < Files.size(file)) {
+            logger.warning("Dropping an incomplete change at the end of " + file);
+            try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                out.truncate(goodLength);
+                out.force(false);
+            }
+        }
+    }
+
+    /**
+     * Returns the payload of the next frame, or null if there is no whole, intact frame left.
+     */
+    private static byte[] readFramePayload(DataInputStream data) throws IOException {
+        byte[] payload;
+        long checksum;
+        try {
+            int length = data.readInt();
+            checksum = data.readLong();
+            if (length < 4) {
+                return null;
+            }
+            payload = data.readNBytes(length);
+            if (payload.length != length) {
+                return null;
+            }
+        } catch (EOFException e) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return crc.getValue() == checksum ? payload : null;
+    }
+
+    private static List<Entry> decodeEntries(byte[] payload) throws IOException {
+        DataInputStream entries = new DataInputStream(new ByteArrayInputStream(payload));
+        int count = entries.readInt();
+        List<Entry> frame = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte op = entries.readByte();
+            String map = entries.readUTF();
+            long key = entries.readLong();
+            byte[] value = null;
+            if (op == PUT) {
+                value = new byte[entries.readInt()];
+                entries.readFully(value);
+            } else if (op != DELETE) {
+                throw new IOException("Unknown key-value store operation " + op);
+            }
+            frame.add(new Entry(op, map, key, value));
+        }
+        return frame;
+    }
+
+    private static byte[] encodeFrame(List<Entry> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(bytes);
+        payload.writeInt(entries.size());
+        for (Entry entry : entries) {
+            payload.writeByte(entry.op);
+            payload.writeUTF(entry.map);
+            payload.writeLong(entry.key);
+            if (entry.op == PUT) {
+                payload.writeInt(entry.value.length);
+                payload.write(entry.value);
+            }
+        }
+        payload.flush();
+        byte[] body = bytes.toByteArray();
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + body.length);
+        frame.putInt(body.length);
+        frame.putLong(crc.getValue());
+        frame.put(body);
+        return frame.array();
+    }
+
+    private void apply(Entry entry) {
+        TreeMap<Long, byte[]> map = maps.computeIfAbsent(entry.map, name -> new TreeMap<>());
+        byte[] old = entry.op == PUT ? map.put(entry.key, entry.value) : map.remove(entry.key);
+        if (old != null) {
+            liveSize -= old.length + ENTRY_OVERHEAD;
+        }
+        if (entry.op == PUT) {
+            liveSize += entry.value.length + ENTRY_OVERHEAD;
+        }
+    }
+
+    /**
+     * Changes to be committed together.
+     */
+    static final class Batch {
+        private final List<Entry> entries = new ArrayList<>();
+
+        /**
+         * Sets the value of {@code key} in the map named {@code map}.
+         */
+        void put(String map, long key, byte[] value) {
+            entries.add(new Entry(PUT, map, key, value));
+        }
+
+        /**
+         * Removes {@code key} from the map named {@code map}.
+         */
+        void delete(String map, long key) {
+            entries.add(new Entry(DELETE, map, key, null));
+        }
+
+        boolean isEmpty() {
+            return entries.isEmpty();
+        }
+    }
+
+    private static final class Entry {
+        private final byte op;
+        private final String map;
+        private final long key;
+        private final byte[] value;
+
+        Entry(byte op, String map, long key, byte[] value) {
+            this.op = op;
+            this.map = map;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Writes to a file channel, so that a file can be written through a stream and then forced to disk.
+     */
+    private static final class ChannelOutputStream extends OutputStream {
+        private final FileChannel channel;
+
+        ChannelOutputStream(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
@@ -8,6 +8,8 @@ import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Listing;
@@ -23,6 +25,8 @@ public final class LoadReport {
 
     private final ModelData modelData;
     private final List<InvalidPersonEntry> invalids;
+    /** The fingerprint of the file the report was read from, taken as it was read, or null if not known. */
+    private final FileFingerprint sourceFingerprint;
 
     /**
      * Constructs a {@code LoadReport}.
@@ -31,8 +35,16 @@ public final class LoadReport {
      * @param invalids list of invalid person entries
      */
     public LoadReport(ModelData modelData, List<InvalidPersonEntry> invalids) {
+        this(modelData, invalids, null);
+    }
+
+    /**
+     * Constructs a {@code LoadReport} read from a file that had {@code sourceFingerprint} while it was read.
+     */
+    LoadReport(ModelData modelData, List<InvalidPersonEntry> invalids, FileFingerprint sourceFingerprint) {
         this.modelData = Objects.requireNonNull(modelData);
         this.invalids = Collections.unmodifiableList(Objects.requireNonNull(invalids));
+        this.sourceFingerprint = sourceFingerprint;
     }
 
     public ModelData getModelData() {
@@ -43,19 +55,34 @@ public final class LoadReport {
         return invalids;
     }
 
+    /**
+     * Returns the fingerprint of the file this report was read from, taken from the same read, or null if it is not
+     * known.
+     */
+    FileFingerprint getSourceFingerprint() {
+        return sourceFingerprint;
+    }
+
+    /**
+     * Returns this report, noting that it was read from a file that had {@code fingerprint} while it was read.
+     */
+    LoadReport withSourceFingerprint(FileFingerprint fingerprint) {
+        return new LoadReport(modelData, invalids, fingerprint);
+    }
+
     /**
      * Generates a LoadReport from a full AddressBook model.
      * Valid persons are kept in the modelData snapshot; invalid ones are reported.
      */
     public static LoadReport fromAddressBook(AddressBook source) {
         List<Person> persons = new ArrayList<>(source.getPersonList());
-        AddressBook validBook = new AddressBook();
+        List<Person> validPersons = new ArrayList<>(persons.size());
         List<InvalidPersonEntry> invalids = new ArrayList<>();
 
         for (int i = 0; i < persons.size(); i++) {
             Person p = persons.get(i);
             if (p.isFullyValid()) {
-                validBook.addPerson(p);
+                validPersons.add(p);
             } else {
                 Set<String> bad = collectInvalidFields(p);
                 String reason = "Invalid field(s): " + String.join(", ", bad);
@@ -72,6 +99,8 @@ public final class LoadReport {
             }
         }
 
+        AddressBook validBook = new AddressBook();
+        validBook.addPersons(validPersons);
         return new LoadReport(new ModelData(validBook), invalids);
     }
 
@@ -103,17 +132,50 @@ public final class LoadReport {
 
     /**
      * Model snapshot of valid persons.
+     * It may hold an {@link AddressBookSnapshot} instead of an address book, in which case the address book is only
+     * built from the snapshot when it is first asked for.
      */
     public static final class ModelData {
-        private final AddressBook addressBook;
+        private AddressBook addressBook;
+        private final AddressBookSnapshot snapshot;
 
+        /**
+         * Constructs a {@code ModelData} holding {@code addressBook}.
+         */
         public ModelData(AddressBook addressBook) {
             this.addressBook = Objects.requireNonNull(addressBook);
+            this.snapshot = null;
+        }
+
+        private ModelData(AddressBookSnapshot snapshot) {
+            this.snapshot = Objects.requireNonNull(snapshot);
+        }
+
+        /**
+         * Returns a {@code ModelData} holding the contents of {@code snapshot}.
+         */
+        public static ModelData of(AddressBookSnapshot snapshot) {
+            return new ModelData(snapshot);
         }
 
-        public AddressBook getAddressBook() {
+        /**
+         * Returns the valid data as an address book that may be changed, building it first if this holds a
+         * snapshot.
+         */
+        public synchronized AddressBook getAddressBook() {
+            if (addressBook == null) {
+                addressBook = new AddressBook(snapshot);
+            }
             return addressBook;
         }
+
+        /**
+         * Returns the valid data without building an address book for it, for callers that only read or copy it.
+         * Reflects any changes made to the address book returned by {@link #getAddressBook()}.
+         */
+        public synchronized ReadOnlyAddressBook getReadOnlyAddressBook() {
+            return addressBook != null ? addressBook : snapshot;
+        }
     }
 
     /**
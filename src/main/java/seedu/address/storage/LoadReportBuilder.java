@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PROPERTY;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * Builds a {@link LoadReport} one adapted record, or one batch of them, at a time.
+ * Invalid and duplicate persons are quarantined under their index in the source; valid ones go straight into the
+ * model, so the adapted records never need to be held together.
+ */
+class LoadReportBuilder {
+
+    private final AddressBook model = new AddressBook();
+    private final List<LoadReport.InvalidPersonEntry> invalids = new ArrayList<>();
+
+    /**
+     * Adds the person at {@code index} in the source to the model, or quarantines it if it is invalid or a duplicate.
+     *
+     * @return the person added, or null if it was quarantined.
+     */
+    Person addPerson(int index, JsonAdaptedPerson jap) {
+        Person p = acceptConverted(index, jap, PersonConversion.of(jap), new HashSet<>());
+        if (p != null) {
+            model.addPerson(p);
+        }
+        return p;
+    }
+
+    /**
+     * Adds the persons in {@code batch}, which start at {@code firstIndex} in the source, as
+     * {@link #addPerson(int, JsonAdaptedPerson)} would one by one.
+     * Large batches are converted in parallel first; the converted persons are still checked in source order, so
+     * which of two duplicates is kept and the indices of quarantined entries are the same either way. The persons
+     * kept are added to the model together, as a single change to its person list.
+     *
+     * @return the persons added, with null for each quarantined entry, in the order of {@code batch}.
+     */
+    Person[] addPersons(int firstIndex, List<JsonAdaptedPerson> batch) {
+        return addPersons(firstIndex, batch, PersonConversion.ofAll(batch));
+    }
+
+    /**
+     * Adds the persons in {@code batch} as {@link #addPersons(int, List)} does, given that {@code conversions} holds
+     * the outcome of converting each of them.
+     */
+    Person[] addPersons(int firstIndex, List<JsonAdaptedPerson> batch, PersonConversion[] conversions) {
+        Person[] added = new Person[conversions.length];
+        List<Person> toAdd = new ArrayList<>(conversions.length);
+        Set<Name> namesInBatch = new HashSet<>();
+        for (int i = 0; i < conversions.length; i++) {
+            added[i] = acceptConverted(firstIndex + i, batch.get(i), conversions[i], namesInBatch);
+            if (added[i] != null) {
+                toAdd.add(added[i]);
+            }
+        }
+        model.addPersons(toAdd);
+        return added;
+    }
+
+    /**
+     * Returns the converted person if it is valid and neither in the model nor named in {@code namesInBatch}, adding
+     * its name to {@code namesInBatch}. Otherwise quarantines it and returns null.
+     */
+    private Person acceptConverted(int index, JsonAdaptedPerson jap, PersonConversion conversion,
+            Set<Name> namesInBatch) {
+        Person p = conversion.person();
+        if (p != null) {
+            if (model.hasPerson(p) || !namesInBatch.add(p.getName())) {
+                invalids.add(new LoadReport.InvalidPersonEntry(
+                        index,
+                        MESSAGE_DUPLICATE_PERSON,
+                        jap.getName(),
+                        jap.getPhone(),
+                        jap.getEmail(),
+                        jap.getAddress(),
+                        jap.getListing(),
+                        Set.of()
+                ));
+                return null;
+            }
+            return p;
+        }
+
+        String message = conversion.failure().getMessage();
+        String reason = message == null ? "Invalid person" : message;
+        invalids.add(new LoadReport.InvalidPersonEntry(
+                index,
+                reason,
+                jap.getName(),
+                jap.getPhone(),
+                jap.getEmail(),
+                jap.getAddress(),
+                jap.getListing(),
+                jap.invalidFieldKeys()
+        ));
+        return null;
+    }
+
+    /**
+     * Adds the property to the model and returns it.
+     *
+     * @throws IllegalValueException if the property is invalid or a duplicate.
+     */
+    Property addProperty(JsonAdaptedProperty jap) throws IllegalValueException {
+        Property prop = jap.toModelType();
+        if (model.hasProperty(prop)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PROPERTY);
+        }
+        model.addProperty(prop);
+        return prop;
+    }
+
+    LoadReport build() {
+        return new LoadReport(new LoadReport.ModelData(model), invalids);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * The outcome of converting one {@link JsonAdaptedPerson}: either the model person or the reason it is invalid.
+ * Converting a record (mostly validating its fields) does not depend on any other record, so large batches are
+ * converted in parallel on the common fork/join pool. Everything that depends on order, such as duplicate detection,
+ * is left to the caller, which walks the outcomes in source order.
+ */
+final class PersonConversion {
+
+    /** Batches smaller than this are converted on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    /** Number of records a single fork/join task converts without splitting further. */
+    private static final int LEAF_SIZE = 256;
+
+    private final Person person;
+    private final IllegalValueException failure;
+
+    private PersonConversion(Person person, IllegalValueException failure) {
+        this.person = person;
+        this.failure = failure;
+    }
+
+    /**
+     * Converts {@code jap}.
+     */
+    static PersonConversion of(JsonAdaptedPerson jap) {
+        try {
+            return new PersonConversion(jap.toModelType(), null);
+        } catch (IllegalValueException ive) {
+            return new PersonConversion(null, ive);
+        }
+    }
+
+    /**
+     * Converts every record in {@code batch}, returning the outcomes in the same order.
+     * Batches of at least {@link #PARALLEL_THRESHOLD} records are split across the common fork/join pool.
+     */
+    static PersonConversion[] ofAll(List<JsonAdaptedPerson> batch) {
+        PersonConversion[] conversions = new PersonConversion[batch.size()];
+        if (batch.size() < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            for (int i = 0; i < conversions.length; i++) {
+                conversions[i] = of(batch.get(i));
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new ConvertTask(batch, conversions, 0, conversions.length));
+        }
+        return conversions;
+    }
+
+    /**
+     * Returns the converted person, or null if the record is invalid.
+     */
+    Person person() {
+        return person;
+    }
+
+    /**
+     * Returns the reason the record is invalid, or null if it was converted.
+     */
+    IllegalValueException failure() {
+        return failure;
+    }
+
+    /**
+     * Converts the records in {@code [from, to)} of a batch, halving the range until it is at most {@link #LEAF_SIZE}.
+     */
+    private static final class ConvertTask extends RecursiveAction {
+        private final List<JsonAdaptedPerson> batch;
+        private final PersonConversion[] conversions;
+        private final int from;
+        private final int to;
+
+        ConvertTask(List<JsonAdaptedPerson> batch, PersonConversion[] conversions, int from, int to) {
+            this.batch = batch;
+            this.conversions = conversions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    conversions[i] = of(batch.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ConvertTask(batch, conversions, from, mid), new ConvertTask(batch, conversions, mid, to));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the persons in a file to be imported into the address book: either a CSV file in the form written by
+ * {@link CsvPersonExporter}, or an address book JSON data file.
+ *
+ * Both are read as a stream, in batches whose persons are validated in parallel. As when loading the data file,
+ * invalid persons and persons repeating an earlier one in the file are quarantined in the returned
+ * {@link LoadReport} under their index among the rows of the file, counting from 0 after any header.
+ */
+public final class PersonImporter {
+
+    /** Number of rows read ahead and validated together. */
+    private static final int BATCH_SIZE = 4 * PersonConversion.PARALLEL_THRESHOLD;
+    private static final int COLUMN_COUNT = 6;
+
+    private PersonImporter() {}
+
+    /**
+     * Returns true if {@code file} has a name this importer can read: one ending in ".csv" or ".json".
+     */
+    public static boolean isSupported(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") || name.endsWith(".json");
+    }
+
+    /**
+     * Reads the persons in {@code file}. The properties of a JSON data file are read too, and must be valid.
+     *
+     * @throws DataLoadingException if the file cannot be read, is not of a supported kind, or is not well-formed.
+     */
+    public static LoadReport read(Path file) throws DataLoadingException {
+        requireNonNull(file);
+        if (!isSupported(file)) {
+            throw new DataLoadingException(new IllegalValueException("Only .csv and .json files can be imported"));
+        }
+        try {
+            if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")) {
+                return readCsv(file);
+            }
+            return JsonAddressBookStreamReader.read(file, new JsonRecordIndex.Builder());
+        } catch (IOException | IllegalValueException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static LoadReport readCsv(Path file) throws IOException, IllegalValueException {
+        LoadReportBuilder builder = new LoadReportBuilder();
+        try (BufferedReader reader = Files.newBufferedReader(file, Charset.defaultCharset())) {
+            CsvRecordReader records = new CsvRecordReader(reader);
+            List<String> header = records.next();
+            if (header == null || !String.join(",", header).equalsIgnoreCase(CsvPersonExporter.HEADER.strip())) {
+                throw new IllegalValueException("CSV file should start with the header "
+                        + CsvPersonExporter.HEADER.strip());
+            }
+
+            List<JsonAdaptedPerson> batch = new ArrayList<>();
+            int firstIndex = 0;
+            List<String> row;
+            while ((row = records.next()) != null) {
+                batch.add(toAdaptedPerson(row));
+                if (batch.size() == BATCH_SIZE) {
+                    builder.addPersons(firstIndex, batch);
+                    firstIndex += batch.size();
+                    batch = new ArrayList<>();
+                }
+            }
+            builder.addPersons(firstIndex, batch);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the person in {@code row}. Missing columns are left null, so that the person fails validation; columns
+     * past the last are ignored. Tags are separated by semicolons, each in the square brackets the export writes
+     * around it, or without them.
+     */
+    private static JsonAdaptedPerson toAdaptedPerson(List<String> row) {
+        List<String> columns = new ArrayList<>(row);
+        while (columns.size() < COLUMN_COUNT) {
+            columns.add(null);
+        }
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        String tagColumn = columns.get(5);
+        if (tagColumn != null) {
+            for (String tag : tagColumn.split(";")) {
+                String tagName = tag.startsWith("[") && tag.endsWith("]") ? tag.substring(1, tag.length() - 1) : tag;
+                if (!tagName.isEmpty()) {
+                    tags.add(new JsonAdaptedTag(tagName));
+                }
+            }
+        }
+        return new JsonAdaptedPerson(columns.get(0), columns.get(1), columns.get(2), columns.get(3), columns.get(4),
+                tags);
+    }
+
+    /**
+     * Splits CSV text into records of fields. A field in double quotes may hold commas, newlines and doubled double
+     * quotes; records end at a newline, optionally preceded by a carriage return. Blank lines are skipped.
+     */
+    private static final class CsvRecordReader {
+        private final Reader reader;
+        private int lookahead = -2;
+
+        CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Returns the fields of the next record, or null if there are no more.
+         */
+        List<String> next() throws IOException {
+            int c = read();
+            while (c == '\n' || c == '\r') {
+                c = read();
+            }
+            if (c == -1) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isQuoted = false;
+            while (true) {
+                if (isQuoted) {
+                    if (c == -1) {
+                        throw new IOException("CSV file ends inside a quoted value");
+                    } else if (c == '"' && peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else if (c == '"') {
+                        isQuoted = false;
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    isQuoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r' || peek() != '\n') {
+                    // a carriage return before a newline is left out
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (lookahead != -2) {
+                int c = lookahead;
+                lookahead = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private int peek() throws IOException {
+            if (lookahead == -2) {
+                lookahead = reader.read();
+            }
+            return lookahead;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+
+/**
+ * A save of the address book whose content was captured when the task was made.
+ * Only making the task reads the address book, so the task itself can be written later, from another thread,
+ * while the address book goes on changing.
+ */
+@FunctionalInterface
+public interface SaveTask {
+
+    /**
+     * Writes the captured content.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns true if this task writes the whole address book, so that any earlier task which has not yet been
+     * written can be dropped. Tasks that record only recent changes must return false.
+     */
+    default boolean isFullSave() {
+        return true;
+    }
+
+    /**
+     * Returns a task that writes this task and then {@code next}.
+     */
+    default SaveTask andThen(SaveTask next) {
+        requireNonNull(next);
+        SaveTask first = this;
+        return new SaveTask() {
+            @Override
+            public void write() throws IOException {
+                first.write();
+                next.write();
+            }
+
+            @Override
+            public boolean isFullSave() {
+                return first.isFullSave();
+            }
+        };
+    }
+
+    /**
+     * Returns a task that writes as {@code changes} does but does not count as a full save.
+     */
+    static SaveTask ofChanges(SaveTask changes) {
+        requireNonNull(changes);
+        return new SaveTask() {
+            @Override
+            public void write() throws IOException {
+                changes.write();
+            }
+
+            @Override
+            public boolean isFullSave() {
+                return false;
+            }
+        };
+    }
+}
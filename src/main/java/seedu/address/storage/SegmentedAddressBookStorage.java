@@ -0,0 +1,657 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Property;
+
+/**
+ * An {@link AddressBookStorage} that keeps the address book in a directory of segment files, so that a save rewrites
+ * only the segments that changed rather than the whole book.
+ *
+ * Persons and properties are split, in order, into segments of at most {@link #DEFAULT_SEGMENT_SIZE} records. Each
+ * segment file is an address book JSON document of its own, and {@value #MANIFEST_FILE} lists the segment files in
+ * order. Once it is told which address book matches the data on disk (see
+ * {@link #trackAddressBook(ReadOnlyAddressBook)}), the storage notes which segments each change to that book touches,
+ * and a save writes just those segments, under new names, then replaces the manifest and deletes the segments it no
+ * longer lists. Replacing the manifest is the moment the save takes effect, so a crash leaves either the old or the
+ * new set of segments. Anything that cannot be followed segment by segment, such as sorting the book, makes the next
+ * save write every segment.
+ *
+ * Segments are read in parallel. Invalid persons are reported under their index in the whole book, counting from the
+ * first segment, as if the segments were one data file.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    /** The most records a segment holds. */
+    static final int DEFAULT_SEGMENT_SIZE = 4096;
+    static final String MANIFEST_FILE = "manifest.json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+    private static final ObjectMapper RAW_MAPPER = new ObjectMapper().findAndRegisterModules();
+    private static final String PERSONS_PREFIX = "persons-";
+    private static final String PROPERTIES_PREFIX = "properties-";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("(persons|properties)-\\d+\\.json");
+
+    private final Path directory;
+    private final int segmentSize;
+    /** The segments on disk as of the last save prepared or data read, adjusted for changes to the tracked book. */
+    private final List<Segment> personSegments = new ArrayList<>();
+    private final List<Segment> propertySegments = new ArrayList<>();
+    private final ListChangeListener<Person> personListener = change -> recordChanges(personSegments, change);
+    private final ListChangeListener<Property> propertyListener = change -> recordChanges(propertySegments, change);
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private boolean isFullSaveRequired = true;
+    private int nextSegmentId;
+    /** Bumped by each failed write, so that saves prepared on top of it know not to go ahead. */
+    private int failedWrites;
+
+    /**
+     * Constructs a {@code SegmentedAddressBookStorage} that keeps the address book in {@code directory}.
+     */
+    public SegmentedAddressBookStorage(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    SegmentedAddressBookStorage(Path directory, int segmentSize) {
+        this.directory = requireNonNull(directory);
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the directory holding the segment files.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        LoadReport report = readAddressBookWithReport(filePath);
+        if (!report.getInvalids().isEmpty()) {
+            String reason = report.getInvalids().get(0).reason();
+            logger.info("Illegal values found in " + filePath + ": " + reason);
+            throw new DataLoadingException(new IllegalValueException(reason));
+        }
+        return Optional.of(report.getModelData().getAddressBook());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Saves {@code addressBook} to the segment directory as {@link #prepareSaveAddressBook(ReadOnlyAddressBook)}
+     * does, or to {@code filePath} as a single JSON data file if {@code filePath} is anywhere else.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(directory)) {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook, filePath);
+            return;
+        }
+        prepareSaveAddressBook(addressBook).write();
+    }
+
+    /**
+     * Captures what {@link #saveAddressBook(ReadOnlyAddressBook)} would write: the segments of the tracked address
+     * book touched since the last save, or else every segment of {@code addressBook}, which becomes the tracked
+     * address book.
+     */
+    @Override
+    public synchronized SaveTask prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook != trackedAddressBook || isFullSaveRequired) {
+            return prepareFullSave(addressBook);
+        }
+        if (personSegments.stream().noneMatch(segment -> segment.isDirty)
+                && propertySegments.stream().noneMatch(segment -> segment.isDirty)) {
+            return SaveTask.ofChanges(() -> {});
+        }
+
+        List<SegmentWrite> writes = new ArrayList<>();
+        List<String> superseded = new ArrayList<>();
+        List<Segment> newPersonSegments =
+                splitDirty(personSegments, addressBook.getPersonList(), PERSONS_PREFIX, writes, superseded);
+        List<Segment> newPropertySegments =
+                splitDirty(propertySegments, addressBook.getPropertyList(), PROPERTIES_PREFIX, writes, superseded);
+        if (newPersonSegments == null || newPropertySegments == null) {
+            logger.warning("Lost track of the segments of " + directory + ", writing every segment instead");
+            return prepareFullSave(addressBook);
+        }
+        setSegments(newPersonSegments, newPropertySegments);
+        JsonAdaptedSegmentManifest manifest = toManifest();
+        int failedWritesSoFar = failedWrites;
+        return SaveTask.ofChanges(() -> {
+            synchronized (this) {
+                if (failedWrites != failedWritesSoFar) {
+                    throw new IOException("Not saved, as an earlier save failed; the next save writes every segment");
+                }
+            }
+            writeSegments(writes, manifest);
+            for (String file : superseded) {
+                deleteQuietly(directory.resolve(file));
+            }
+        });
+    }
+
+    @Override
+    public synchronized void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        bind(addressBook);
+        isFullSaveRequired = countOf(personSegments) != addressBook.getPersonList().size()
+                || countOf(propertySegments) != addressBook.getPropertyList().size()
+                || personSegments.stream().anyMatch(segment -> segment.isDirty || segment.file == null)
+                || propertySegments.stream().anyMatch(segment -> segment.isDirty || segment.file == null);
+    }
+
+    /**
+     * Writes every segment again, evenly filled, if removals have left the tracked address book spread over more
+     * segments than it needs.
+     */
+    @Override
+    public void compactAddressBook() throws IOException {
+        SaveTask fullSave;
+        synchronized (this) {
+            if (trackedAddressBook == null
+                    || !isFullSaveRequired && !isFragmented(personSegments) && !isFragmented(propertySegments)) {
+                return;
+            }
+            fullSave = prepareFullSave(trackedAddressBook);
+        }
+        fullSave.write();
+    }
+
+    /**
+     * Reads the segment directory {@code filePath}, or the single JSON data file {@code filePath}.
+     * The segments are read and their persons validated in parallel; the persons are then added in order, so which
+     * of two duplicates is kept and the indices of invalid entries are as if the segments were one data file.
+     */
+    @Override
+    public LoadReport readAddressBookWithReport(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return new LoadReport(new LoadReport.ModelData(new seedu.address.model.AddressBook()),
+                    java.util.Collections.emptyList());
+        }
+        if (!Files.isDirectory(filePath)) {
+            return new JsonAddressBookStorage(filePath).readAddressBookWithReport(filePath);
+        }
+
+        Optional<JsonAdaptedSegmentManifest> manifest = readManifest(filePath);
+        if (manifest.isEmpty()) {
+            return new LoadReport(new LoadReport.ModelData(new seedu.address.model.AddressBook()),
+                    java.util.Collections.emptyList());
+        }
+        List<JsonAdaptedSegmentManifest.Entry> personEntries = manifest.get().getPersons();
+        List<JsonAdaptedSegmentManifest.Entry> propertyEntries = manifest.get().getProperties();
+        List<Callable<SegmentData>> reads = new ArrayList<>();
+        for (JsonAdaptedSegmentManifest.Entry entry : personEntries) {
+            reads.add(() -> SegmentData.read(filePath.resolve(entry.getFile()), true));
+        }
+        for (JsonAdaptedSegmentManifest.Entry entry : propertyEntries) {
+            reads.add(() -> SegmentData.read(filePath.resolve(entry.getFile()), false));
+        }
+        List<SegmentData> segments = invokeAll(reads);
+        List<SegmentData> personData = segments.subList(0, personEntries.size());
+        List<SegmentData> propertyData = segments.subList(personEntries.size(), segments.size());
+
+        LoadReportBuilder builder = new LoadReportBuilder();
+        int index = 0;
+        for (SegmentData segment : personData) {
+            builder.addPersons(index, segment.persons, segment.conversions);
+            index += segment.persons.size();
+        }
+        try {
+            for (SegmentData segment : propertyData) {
+                for (JsonAdaptedProperty property : segment.properties) {
+                    builder.addProperty(property);
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        synchronized (this) {
+            // the segments of a tracked address book are known better than the disk can tell, as saves may be pending
+            if (filePath.equals(directory) && trackedAddressBook == null) {
+                setSegments(segmentsOf(personEntries, personData, true),
+                        segmentsOf(propertyEntries, propertyData, false));
+                nextSegmentId = Math.max(nextSegmentId, manifest.get().getNextSegmentId());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Replaces the person at {@code index} of the whole book in the segment holding it, then returns a fresh
+     * LoadReport. Only that segment and the manifest are written.
+     */
+    @Override
+    public LoadReport overwriteRawEntryAtIndex(int index, Person person) throws DataLoadingException, IOException {
+        requireNonNull(person);
+        synchronized (this) {
+            JsonAdaptedSegmentManifest manifest = readManifest(directory)
+                    .orElseThrow(() -> new IOException("Missing manifest in " + directory));
+            List<JsonAdaptedSegmentManifest.Entry> entries = new ArrayList<>(manifest.getPersons());
+            int size = entries.stream().mapToInt(JsonAdaptedSegmentManifest.Entry::getCount).sum();
+            if (index < 0 || index >= size) {
+                throw new IOException("Index out of bounds: " + index + " (size=" + size + ")");
+            }
+
+            int segmentIndex = 0;
+            int start = 0;
+            while (index >= start + entries.get(segmentIndex).getCount()) {
+                start += entries.get(segmentIndex).getCount();
+                segmentIndex++;
+            }
+            JsonAdaptedSegmentManifest.Entry entry = entries.get(segmentIndex);
+            Path oldFile = directory.resolve(entry.getFile());
+            JsonNode root = RAW_MAPPER.readTree(oldFile.toFile());
+            JsonNode persons = root == null ? null : root.get("persons");
+            if (!(persons instanceof ArrayNode) || persons.size() != entry.getCount()) {
+                throw new IOException("Segment " + oldFile + " does not hold the persons its manifest lists");
+            }
+            ArrayNode personArray = (ArrayNode) persons;
+            personArray.set(index - start, RAW_MAPPER.valueToTree(new JsonAdaptedPerson(person)));
+
+            nextSegmentId = Math.max(nextSegmentId, manifest.getNextSegmentId());
+            String newFile = newSegmentFile(PERSONS_PREFIX);
+            RAW_MAPPER.writerWithDefaultPrettyPrinter().writeValue(directory.resolve(newFile).toFile(), root);
+            entries.set(segmentIndex, new JsonAdaptedSegmentManifest.Entry(newFile, entry.getCount()));
+            writeManifest(new JsonAdaptedSegmentManifest(nextSegmentId, entries, manifest.getProperties()));
+            deleteQuietly(oldFile);
+            for (Segment segment : personSegments) {
+                if (entry.getFile().equals(segment.file)) {
+                    segment.file = newFile;
+                }
+            }
+        }
+        return readAddressBookWithReport(directory);
+    }
+
+    /**
+     * Starts tracking {@code addressBook} and returns a task that writes all of it into new segments, replaces the
+     * manifest, and deletes every segment file the manifest no longer lists.
+     */
+    private SaveTask prepareFullSave(ReadOnlyAddressBook addressBook) {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        bind(addressBook);
+        List<SegmentWrite> writes = new ArrayList<>();
+        List<Segment> newPersonSegments = new ArrayList<>();
+        List<Segment> newPropertySegments = new ArrayList<>();
+        split(snapshot.getPersonList(), 0, snapshot.getPersonList().size(), PERSONS_PREFIX, writes,
+                newPersonSegments);
+        split(snapshot.getPropertyList(), 0, snapshot.getPropertyList().size(), PROPERTIES_PREFIX, writes,
+                newPropertySegments);
+        setSegments(newPersonSegments, newPropertySegments);
+        isFullSaveRequired = false;
+        JsonAdaptedSegmentManifest manifest = toManifest();
+        return () -> {
+            writeSegments(writes, manifest);
+            deleteUnlistedSegments(manifest);
+        };
+    }
+
+    /**
+     * Returns the segments after splitting each dirty one into segments holding its records of {@code records} now.
+     * Returns null if the segments no longer add up to {@code records}.
+     */
+    private List<Segment> splitDirty(List<Segment> segments, List<?> records, String prefix,
+            List<SegmentWrite> writes, List<String> superseded) {
+        List<Segment> result = new ArrayList<>();
+        int start = 0;
+        for (Segment segment : segments) {
+            if (!segment.isDirty) {
+                result.add(segment);
+            } else {
+                if (segment.file != null) {
+                    superseded.add(segment.file);
+                }
+                if (start + segment.count > records.size()) {
+                    return null;
+                }
+                split(records, start, start + segment.count, prefix, writes, result);
+            }
+            start += segment.count;
+        }
+        return start == records.size() ? result : null;
+    }
+
+    /**
+     * Adds segments holding {@code records[from, to)}, each of at most {@code segmentSize} records, to
+     * {@code segments}, and the writes that create them to {@code writes}.
+     */
+    private void split(List<?> records, int from, int to, String prefix, List<SegmentWrite> writes,
+            List<Segment> segments) {
+        for (int start = from; start < to; start += segmentSize) {
+            int end = Math.min(start + segmentSize, to);
+            String file = newSegmentFile(prefix);
+            writes.add(new SegmentWrite(file, List.copyOf(records.subList(start, end))));
+            segments.add(new Segment(file, end - start, false));
+        }
+    }
+
+    private String newSegmentFile(String prefix) {
+        return String.format("%s%06d.json", prefix, nextSegmentId++);
+    }
+
+    private void setSegments(List<Segment> newPersonSegments, List<Segment> newPropertySegments) {
+        personSegments.clear();
+        personSegments.addAll(newPersonSegments);
+        propertySegments.clear();
+        propertySegments.addAll(newPropertySegments);
+    }
+
+    private JsonAdaptedSegmentManifest toManifest() {
+        return new JsonAdaptedSegmentManifest(nextSegmentId, toEntries(personSegments), toEntries(propertySegments));
+    }
+
+    private static List<JsonAdaptedSegmentManifest.Entry> toEntries(List<Segment> segments) {
+        return segments.stream()
+                .map(segment -> new JsonAdaptedSegmentManifest.Entry(segment.file, segment.count))
+                .toList();
+    }
+
+    /**
+     * Writes the new segments, then replaces the manifest with {@code manifest}.
+     */
+    private void writeSegments(List<SegmentWrite> writes, JsonAdaptedSegmentManifest manifest) throws IOException {
+        try {
+            Files.createDirectories(directory);
+            for (SegmentWrite write : writes) {
+                write.writeTo(directory);
+            }
+            writeManifest(manifest);
+        } catch (IOException e) {
+            synchronized (this) {
+                failedWrites++;
+                isFullSaveRequired = true;
+            }
+            throw e;
+        }
+    }
+
+    private void writeManifest(JsonAdaptedSegmentManifest manifest) throws IOException {
+        Path manifestFile = directory.resolve(MANIFEST_FILE);
+        Path tmp = directory.resolve(MANIFEST_FILE + ".tmp");
+        Files.writeString(tmp, JsonUtil.toJsonString(manifest), UTF_8);
+        Files.move(tmp, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteUnlistedSegments(JsonAdaptedSegmentManifest manifest) {
+        Set<String> listed = new HashSet<>();
+        manifest.getPersons().forEach(entry -> listed.add(entry.getFile()));
+        manifest.getProperties().forEach(entry -> listed.add(entry.getFile()));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (SEGMENT_FILE.matcher(name).matches() && !listed.contains(name)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not clean up old segments in " + directory + ": " + e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Could not delete old segment " + file + ": " + e);
+        }
+    }
+
+    /**
+     * Reads the manifest in {@code directory}, or returns an empty {@code Optional} if there is none, as in a
+     * directory that has yet to be saved to.
+     */
+    private static Optional<JsonAdaptedSegmentManifest> readManifest(Path directory) throws DataLoadingException {
+        Path manifestFile = directory.resolve(MANIFEST_FILE);
+        Optional<JsonAdaptedSegmentManifest> read = JsonUtil.readJsonFile(manifestFile,
+                JsonAdaptedSegmentManifest.class);
+        if (read.isEmpty()) {
+            return read;
+        }
+        JsonAdaptedSegmentManifest manifest = read.get();
+        List<JsonAdaptedSegmentManifest.Entry> entries = new ArrayList<>(manifest.getPersons());
+        entries.addAll(manifest.getProperties());
+        for (JsonAdaptedSegmentManifest.Entry entry : entries) {
+            if (entry.getFile() == null || !SEGMENT_FILE.matcher(entry.getFile()).matches()) {
+                throw new DataLoadingException(new IllegalValueException(
+                        "Manifest " + manifestFile + " lists an unknown segment file: " + entry.getFile()));
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Runs {@code reads} on the common fork/join pool and returns their results in order.
+     */
+    private static List<SegmentData> invokeAll(List<Callable<SegmentData>> reads) throws DataLoadingException {
+        List<SegmentData> results = new ArrayList<>();
+        try {
+            for (Future<SegmentData> read : ForkJoinPool.commonPool().invokeAll(reads)) {
+                results.add(read.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            }
+            throw new DataLoadingException(cause instanceof Exception ? (Exception) cause : e);
+        }
+        return results;
+    }
+
+    /**
+     * Returns the segments listed in {@code entries}, counting the records actually read from each.
+     */
+    private static List<Segment> segmentsOf(List<JsonAdaptedSegmentManifest.Entry> entries,
+            List<SegmentData> data, boolean isPersons) {
+        List<Segment> segments = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            int count = isPersons ? data.get(i).persons.size() : data.get(i).properties.size();
+            segments.add(new Segment(entries.get(i).getFile(), count, false));
+        }
+        return segments;
+    }
+
+    private void bind(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (trackedAddressBook != addressBook) {
+            if (trackedAddressBook != null) {
+                trackedAddressBook.getPersonList().removeListener(personListener);
+                trackedAddressBook.getPropertyList().removeListener(propertyListener);
+            }
+            trackedAddressBook = addressBook;
+            addressBook.getPersonList().addListener(personListener);
+            addressBook.getPropertyList().addListener(propertyListener);
+        }
+    }
+
+    /**
+     * Marks the segments touched by the changes to a tracked list as dirty, and adjusts their counts. Permutations
+     * and in-place updates cannot be followed segment by segment, so they require a full save.
+     */
+    private synchronized void recordChanges(List<Segment> segments, ListChangeListener.Change<?> change) {
+        while (change.next() && !isFullSaveRequired) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                isFullSaveRequired = true;
+                continue;
+            }
+            if (change.getRemovedSize() > 0) {
+                recordRemoval(segments, change.getFrom(), change.getRemovedSize());
+            }
+            if (change.getAddedSize() > 0) {
+                recordAddition(segments, change.getFrom(), change.getAddedSize());
+            }
+        }
+    }
+
+    private static void recordRemoval(List<Segment> segments, int from, int removed) {
+        int start = 0;
+        for (Segment segment : segments) {
+            if (removed == 0) {
+                return;
+            }
+            if (from < start + segment.count) {
+                int taken = Math.min(removed, start + segment.count - from);
+                segment.count -= taken;
+                segment.isDirty = true;
+                removed -= taken;
+            }
+            start += segment.count;
+        }
+    }
+
+    /**
+     * Adds the records inserted at {@code from} to the segment holding that position, or to the last segment if
+     * they were appended. A segment that grows past the segment size is split when it is saved.
+     */
+    private static void recordAddition(List<Segment> segments, int from, int added) {
+        if (segments.isEmpty()) {
+            segments.add(new Segment(null, 0, true));
+        }
+        Segment target = segments.get(segments.size() - 1);
+        int start = 0;
+        for (Segment segment : segments) {
+            if (from < start + segment.count) {
+                target = segment;
+                break;
+            }
+            start += segment.count;
+        }
+        target.count += added;
+        target.isDirty = true;
+    }
+
+    private boolean isFragmented(List<Segment> segments) {
+        int needed = (countOf(segments) + segmentSize - 1) / segmentSize;
+        return segments.size() > 2 * needed + 1;
+    }
+
+    private static int countOf(List<Segment> segments) {
+        return segments.stream().mapToInt(segment -> segment.count).sum();
+    }
+
+    /**
+     * A segment file and the number of records it holds, or will hold once the next save writes it if it is dirty.
+     * A dirty segment may be new, with no file yet, and may hold any number of records.
+     */
+    private static final class Segment {
+        private String file;
+        private int count;
+        private boolean isDirty;
+
+        Segment(String file, int count, boolean isDirty) {
+            this.file = file;
+            this.count = count;
+            this.isDirty = isDirty;
+        }
+    }
+
+    /**
+     * A segment file to be written, with the records it holds as they were when the save was prepared.
+     */
+    private static final class SegmentWrite {
+        private final String file;
+        private final List<?> records;
+
+        SegmentWrite(String file, List<?> records) {
+            this.file = file;
+            this.records = records;
+        }
+
+        void writeTo(Path directory) throws IOException {
+            List<JsonAdaptedPerson> persons = new ArrayList<>();
+            List<JsonAdaptedProperty> properties = new ArrayList<>();
+            for (Object record : records) {
+                if (record instanceof Person) {
+                    persons.add(new JsonAdaptedPerson((Person) record));
+                } else {
+                    properties.add(new JsonAdaptedProperty((Property) record));
+                }
+            }
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, properties), directory.resolve(file));
+        }
+    }
+
+    /**
+     * The records read from one segment file. The persons of a person segment are converted as it is read, so that
+     * segments are validated in parallel too.
+     */
+    private static final class SegmentData {
+        private final List<JsonAdaptedPerson> persons;
+        private final PersonConversion[] conversions;
+        private final List<JsonAdaptedProperty> properties;
+
+        private SegmentData(List<JsonAdaptedPerson> persons, PersonConversion[] conversions,
+                List<JsonAdaptedProperty> properties) {
+            this.persons = persons;
+            this.conversions = conversions;
+            this.properties = properties;
+        }
+
+        /**
+         * Reads the persons of {@code file} if {@code isPersons} is true, or else its properties.
+         */
+        static SegmentData read(Path file, boolean isPersons) throws DataLoadingException {
+            JsonSerializableAddressBook contents = JsonUtil.readJsonFile(file, JsonSerializableAddressBook.class)
+                    .orElseThrow(() -> new DataLoadingException(new IOException("Missing segment " + file)));
+            if (isPersons) {
+                List<JsonAdaptedPerson> persons = contents.getPersons();
+                return new SegmentData(persons, PersonConversion.ofAll(persons), List.of());
+            }
+            return new SegmentData(List.of(), new PersonConversion[0], contents.getProperties());
+        }
+    }
+}
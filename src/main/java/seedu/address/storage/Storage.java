@@ -2,12 +2,18 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * API of the Storage component.
@@ -37,6 +43,65 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Saves {@code addressBook} as {@link #saveAddressBook(ReadOnlyAddressBook)} does, but may return before it has
+     * been written. Its content is captured before this returns, so {@code addressBook} may go on changing.
+     * By default the save is written before this returns.
+     *
+     * @throws IOException if this save, or an earlier requested save that has not been reported, failed.
+     */
+    default void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Waits until every save requested with {@link #requestSaveAddressBook(ReadOnlyAddressBook)} has been written.
+     *
+     * @throws IOException if one of them failed and has not been reported yet.
+     */
+    default void flushAddressBook() throws IOException {}
+
+    /**
+     * Sets the listener told, from the thread writing it, as soon as a save requested with
+     * {@link #requestSaveAddressBook(ReadOnlyAddressBook)} fails after that method has returned. The failure is still
+     * reported by the next request or flush as well. By default saves are written before they are requested, so
+     * their failures are only ever thrown.
+     */
+    default void setSaveFailureListener(Consumer<IOException> listener) {}
+
+    /**
+     * Writes {@code persons} to {@code file} as {@link CsvPersonExporter#write} does, but may return before they have
+     * been written, reporting the number of rows written so far to {@code progress}. {@code persons} must not change
+     * until the export is written. By default the export is written before this returns.
+     *
+     * @return a future completed once the file is written, or completed exceptionally if it could not be.
+     */
+    default CompletableFuture<Void> requestExportPersons(List<Person> persons, Path file, IntConsumer progress) {
+        try {
+            CsvPersonExporter.write(persons, file, progress);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Waits until every export requested with {@link #requestExportPersons} has been written, and accepts no more
+     * exports. Called when the application stops.
+     *
+     * @throws IOException if interrupted while waiting.
+     */
+    default void stopExports() throws IOException {}
+
+    /**
+     * Returns the version of the address book, as given by its {@link AddressBookSnapshot}, held by the last save
+     * requested with {@link #requestSaveAddressBook(ReadOnlyAddressBook)} that has been written. Returns
+     * {@link AddressBookSnapshot#NO_VERSION} if none has been written, or if the address book does not keep versions.
+     */
+    default long getSavedAddressBookVersion() {
+        return AddressBookSnapshot.NO_VERSION;
+    }
+
     /**
      * Reads the address book and returns a {@link LoadReport} that includes:
      *  - the successfully parsed model snapshot; and
@@ -1,15 +1,23 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Coordinates reading/writing of both AddressBook data and UserPrefs.
@@ -20,13 +28,30 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final BackgroundAddressBookSaver backgroundSaver;
+    private final BackgroundCsvExporter csvExporter = new BackgroundCsvExporter();
+    private CachedReport cachedReport;
+    /** The version written by the last requested save, when saves are written before they are requested. */
+    private long savedVersion = AddressBookSnapshot.NO_VERSION;
 
     /**
      * Constructs a StorageManager with the provided storage implementations.
+     * Requested saves are written before {@link #requestSaveAddressBook(ReadOnlyAddressBook)} returns.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Constructs a StorageManager with the provided storage implementations.
+     * If {@code saveInBackground} is true, requested saves are written on a background thread, and every other
+     * address book operation first waits for them to be written.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            boolean saveInBackground) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundSaver = saveInBackground ? new BackgroundAddressBookSaver(addressBookStorage) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,6 +86,7 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
+        awaitBackgroundSavesBeforeLoading();
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -72,31 +98,174 @@ public class StorageManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
+        awaitBackgroundSaves();
+        cachedReport = null;
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void requestSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (backgroundSaver == null) {
+            saveAddressBook(addressBook);
+            savedVersion = AddressBookSnapshot.versionOf(addressBook);
+            return;
+        }
+        cachedReport = null;
+        logger.fine("Queueing write to data file: " + addressBookStorage.getAddressBookFilePath());
+        backgroundSaver.requestSave(addressBook);
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        if (backgroundSaver != null) {
+            backgroundSaver.flush();
+        }
+    }
+
+    @Override
+    public void setSaveFailureListener(Consumer<IOException> listener) {
+        if (backgroundSaver != null) {
+            backgroundSaver.setFailureListener(listener);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> requestExportPersons(List<Person> persons, Path file, IntConsumer progress) {
+        logger.fine("Queueing export to: " + file);
+        return csvExporter.requestExport(persons, file, progress);
+    }
+
+    @Override
+    public void stopExports() throws IOException {
+        csvExporter.shutdown();
+    }
+
+    @Override
+    public long getSavedAddressBookVersion() {
+        return backgroundSaver == null ? savedVersion : backgroundSaver.getWrittenVersion();
+    }
+
+    @Override
+    public void trackAddressBook(ReadOnlyAddressBook addressBook) {
+        addressBookStorage.trackAddressBook(addressBook);
+    }
+
+    @Override
+    public void compactAddressBook() throws IOException {
+        logger.fine("Attempting to compact data file: " + addressBookStorage.getAddressBookFilePath());
+        awaitBackgroundSaves();
+        cachedReport = null;
+        addressBookStorage.compactAddressBook();
+    }
+
     /**
      * Reads data and also returns information about invalid entries collected during parse.
+     *
+     * @see #readAddressBookWithReport(Path)
      */
     @Override
     public LoadReport readAddressBookWithReport() throws DataLoadingException {
-        Path path = addressBookStorage.getAddressBookFilePath();
-        logger.fine("Attempting to read data (with report) from file: " + path);
-        return addressBookStorage.readAddressBookWithReport(path);
+        return readAddressBookWithReport(addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Reads data and also returns information about invalid entries collected during parse.
+     * The report is kept, and returned again without reading the file while the file's fingerprint is unchanged and
+     * no address book has been saved through this manager since. The returned report may therefore be shared, and
+     * callers must copy its address book rather than modify it.
+     */
     @Override
     public LoadReport readAddressBookWithReport(Path filePath) throws DataLoadingException {
+        awaitBackgroundSavesBeforeLoading();
+        CachedReport cached = cachedReport;
+        if (cached != null && cached.file.equals(filePath) && cached.fingerprint.matches(filePath)) {
+            logger.fine("Data file unchanged, reusing load report for: " + filePath);
+            return cached.report;
+        }
+
         logger.fine("Attempting to read data (with report) from file: " + filePath);
-        return addressBookStorage.readAddressBookWithReport(filePath);
+        BasicFileAttributes attributes = attributesOf(filePath);
+        LoadReport report = addressBookStorage.readAddressBookWithReport(filePath);
+        FileFingerprint fingerprint = report.getSourceFingerprint();
+        if (fingerprint == null && attributes != null) {
+            // the storage did not fingerprint the file as it read it, so fingerprint it now if it looks unchanged
+            fingerprint = fingerprintOf(filePath);
+            if (fingerprint != null && !fingerprint.hasAttributes(attributes)) {
+                fingerprint = null;
+            }
+        }
+        cachedReport = fingerprint == null ? null : new CachedReport(filePath, fingerprint, report);
+        return report;
     }
 
     /**
      * In-place overwrite of a single raw JSON entry, then return a fresh LoadReport.
+     * The returned report is kept as {@link #readAddressBookWithReport(Path)} keeps the reports it reads.
      */
     @Override
     public LoadReport overwriteRawEntryAtIndex(int index, seedu.address.model.person.Person person)
             throws seedu.address.commons.exceptions.DataLoadingException, java.io.IOException {
-        return addressBookStorage.overwriteRawEntryAtIndex(index, person);
+        awaitBackgroundSaves();
+        cachedReport = null;
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        LoadReport report = addressBookStorage.overwriteRawEntryAtIndex(index, person);
+        FileFingerprint fingerprint = fingerprintOf(filePath);
+        cachedReport = fingerprint == null ? null : new CachedReport(filePath, fingerprint, report);
+        return report;
+    }
+
+    /**
+     * Returns the fingerprint of {@code filePath}, or null if it cannot be taken (e.g. the file does not exist).
+     */
+    private static FileFingerprint fingerprintOf(Path filePath) {
+        try {
+            return FileFingerprint.of(filePath);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the attributes of {@code filePath}, or null if they cannot be read (e.g. the file does not exist).
+     */
+    private static BasicFileAttributes attributesOf(Path filePath) {
+        try {
+            return Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Waits for saves still being written in the background, so that the data file is not read or written
+     * underneath them. Their failures are left to be reported by the next requested save.
+     */
+    private void awaitBackgroundSaves() throws IOException {
+        if (backgroundSaver != null) {
+            backgroundSaver.awaitIdle();
+        }
+    }
+
+    private void awaitBackgroundSavesBeforeLoading() throws DataLoadingException {
+        try {
+            awaitBackgroundSaves();
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * A load report together with the file it was read from and that file's fingerprint as it was read.
+     */
+    private static final class CachedReport {
+        private final Path file;
+        private final FileFingerprint fingerprint;
+        private final LoadReport report;
+
+        CachedReport(Path file, FileFingerprint fingerprint, LoadReport report) {
+            this.file = file;
+            this.fingerprint = fingerprint;
+            this.report = report;
+        }
     }
 }
@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -123,6 +125,26 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalExactlyWhenEqualIgnoringCase() {
+        assertEquals(StringUtil.foldCase("ABc"), StringUtil.foldCase("abC"));
+        assertNotEquals(StringUtil.foldCase("ABc"), StringUtil.foldCase("AB"));
+
+        // characters whose upper and lower cases do not map back to each other
+        assertEquals("\u0130".equalsIgnoreCase("i"), StringUtil.foldCase("\u0130").equals(StringUtil.foldCase("i")));
+        assertTrue("\u03C2".equalsIgnoreCase("\u03A3"));
+        assertEquals(StringUtil.foldCase("\u03C2"), StringUtil.foldCase("\u03A3"));
+        assertTrue("K".equalsIgnoreCase("\u212A"));
+        assertEquals(StringUtil.foldCase("K"), StringUtil.foldCase("\u212A"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,73 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    private static final String[] SAMPLES = {
+        "", " ", "a", "A1", "12", "123", "9876543", "\u0967\u0968\u0969", "\u216B", "\u00BD", "Zo\u00EB \u00DCnal",
+        "\u674E \u5C0F\u9F99", "Alice  Bob", " Alice", "Alice ",
+        "Alice\tBob", "Alice-Bob", "a_b", "Blk 30, #06-40", "\nabc", "abc\n", "ab\rc", "ab\u0085c",
+        "ab\u2028c", "\u0085abc", "\u00A0abc", "\u000Babc", "\uD835\uDC9Clice", "x\uD800", "\uDC00x"
+    };
+
+    @Test
+    public void isAsciiDigits_nullTest_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ValidationUtil.isAsciiDigits(null, 3));
+    }
+
+    @Test
+    public void isAsciiDigits() {
+        assertFalse(ValidationUtil.isAsciiDigits("12", 3)); // too short
+        assertFalse(ValidationUtil.isAsciiDigits("\u0967\u0968\u0969", 3)); // non-ASCII digits
+        assertTrue(ValidationUtil.isAsciiDigits("123", 3));
+    }
+
+    @Test
+    public void isLettersAndSpaces() {
+        assertFalse(ValidationUtil.isLettersAndSpaces(" Alice", false)); // leading space
+        assertFalse(ValidationUtil.isLettersAndSpaces("Alice2", false)); // number not allowed
+        assertTrue(ValidationUtil.isLettersAndSpaces("Alice2", true));
+        assertTrue(ValidationUtil.isLettersAndSpaces("Zo\u00EB  \u00DCnal ", false));
+    }
+
+    @Test
+    public void isSingleLineStartingWithNonWhitespace() {
+        assertFalse(ValidationUtil.isSingleLineStartingWithNonWhitespace("\tBlk 30"));
+        assertFalse(ValidationUtil.isSingleLineStartingWithNonWhitespace("Blk 30\nGeylang"));
+        assertTrue(ValidationUtil.isSingleLineStartingWithNonWhitespace("Blk 30, #06-40 "));
+    }
+
+    @Test
+    public void allValidators_sampleAndRandomInputs_agreeWithRegexes() {
+        List<String> inputs = new ArrayList<>(List.of(SAMPLES));
+        Random random = new Random(2103);
+        char[] alphabet = "aZ09 _-\t\n\r\u0085\u2028\u00A0\u00E9\u0416\u0663\u216B\uD835\uDC9C".toCharArray();
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                sb.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            inputs.add(sb.toString());
+        }
+
+        for (String input : inputs) {
+            assertEquals(input.matches("\\d{3,}"), ValidationUtil.isAsciiDigits(input, 3), input);
+            assertEquals(input.matches("\\p{Alnum}+"), ValidationUtil.isAsciiAlphanumeric(input), input);
+            assertEquals(input.matches("[\\p{L}][\\p{L} ]*"), ValidationUtil.isLettersAndSpaces(input, false), input);
+            assertEquals(input.matches("[\\p{L}\\p{N}][\\p{L}\\p{N} ]*"),
+                    ValidationUtil.isLettersAndSpaces(input, true), input);
+            assertEquals(input.matches("[^\\s].*"), ValidationUtil.isSingleLineStartingWithNonWhitespace(input), input);
+        }
+    }
+}
@@ -21,7 +21,9 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -137,6 +139,38 @@ public class LogicManagerTest {
         );
     }
 
+    @Test
+    public void execute_mutatingCommandChangesNothing_doesNotSave() throws Exception {
+        model.addPerson(AMY);
+        useStorageThatFailsWith(DUMMY_IO_EXCEPTION);
+
+        CommandResult result = logic.execute(EditCommand.COMMAND_WORD + " 1" + NAME_DESC_AMY);
+        assertEquals(String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(AMY)),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_saveFailed_nextChangeSavedAgain() {
+        useStorageThatFailsWith(DUMMY_IO_EXCEPTION);
+        String expectedMessage = String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage());
+
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(AddCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LISTING_DESC_AMY));
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ClearCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_failureShownAsStatusMessage() throws Exception {
+        StorageManager storage = useStorageThatFailsWith(DUMMY_IO_EXCEPTION, true);
+
+        logic.execute(AddCommand.COMMAND_WORD
+                + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LISTING_DESC_AMY);
+        assertThrows(IOException.class, storage::flushAddressBook);
+
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                logic.getStatusMessage().getValue());
+    }
+
     /**
      * Executes the command and confirms that no exception is thrown,
      * the feedback equals {@code expectedMessage}, and the model equals {@code expectedModel}.
@@ -185,6 +219,28 @@ public class LogicManagerTest {
      * Verifies that Logic translates storage exceptions into CommandException with the expected message.
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        useStorageThatFailsWith(e);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LISTING_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Replaces {@code logic} with one whose storage throws {@code e} on every save.
+     */
+    private void useStorageThatFailsWith(IOException e) {
+        useStorageThatFailsWith(e, false);
+    }
+
+    /**
+     * Replaces {@code logic} with one whose storage throws {@code e} on every save, writing saves in the background
+     * if {@code saveInBackground} is true, and returns that storage.
+     */
+    private StorageManager useStorageThatFailsWith(IOException e, boolean saveInBackground) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
@@ -196,14 +252,8 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, saveInBackground);
         logic = new LogicManager(model, storage);
-
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + LISTING_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).withTags().build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        return storage;
     }
 }
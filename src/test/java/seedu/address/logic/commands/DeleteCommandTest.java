@@ -8,6 +8,8 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +21,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for
@@ -104,6 +107,41 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, "No person found with the specified email.");
     }
 
+    @Test
+    public void execute_emailOfPersonFilteredOut_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        DeleteCommand deleteCommand = new DeleteCommand(ALICE.getEmail());
+
+        assertCommandFailure(deleteCommand, model, DeleteCommand.MESSAGE_PERSON_NOT_FOUND_BY_EMAIL);
+    }
+
+    @Test
+    public void execute_emailSharedWithPersonFilteredOut_deletesShownPerson() {
+        Person bensonWithAliceEmail = new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+        model.setPerson(BENSON, bensonWithAliceEmail);
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        DeleteCommand deleteCommand = new DeleteCommand(ALICE.getEmail());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS,
+                Messages.format(bensonWithAliceEmail));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(bensonWithAliceEmail);
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emailSharedByMultiplePersons_throwsCommandException() {
+        Person bensonWithAliceEmail = new PersonBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+        model.setPerson(BENSON, bensonWithAliceEmail);
+        DeleteCommand deleteCommand = new DeleteCommand(ALICE.getEmail());
+
+        assertCommandFailure(deleteCommand, model,
+                String.format(DeleteCommand.MESSAGE_MULTIPLE_PERSONS_WITH_EMAIL, 2, ALICE.getEmail()));
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
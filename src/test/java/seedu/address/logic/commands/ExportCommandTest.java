@@ -2,12 +2,21 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TestUtil.lettersFor;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.io.File;
 import java.io.FileWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
@@ -15,10 +24,16 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
 
 public class ExportCommandTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void execute_exportWithPeople_createsCsvFile() throws Exception {
         Model model = new ModelManager(new AddressBook(), new UserPrefs());
@@ -94,4 +109,45 @@ public class ExportCommandTest {
         file.delete();
     }
 
+    @Test
+    public void execute_manyPeopleChangedDuringExport_exportsPeopleAtTimeOfCommand() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < ExportCommand.BACKGROUND_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withName("Person " + lettersFor(i)).build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        Model model = new ModelManager(addressBook, new UserPrefs());
+
+        String filename = "background_export";
+        List<String> statuses = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        ExportCommand command = new ExportCommand(filename, storage, status -> {
+            synchronized (statuses) {
+                statuses.add(status);
+            }
+            if (!status.startsWith("Exporting")) {
+                done.countDown();
+            }
+        });
+
+        CommandResult result = command.execute(model);
+        model.deletePersons(person -> true);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_STARTED, persons.size(), filename + ".csv"),
+                result.getFeedbackToUser());
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        synchronized (statuses) {
+            assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, persons.size(), filename + ".csv"),
+                    statuses.get(statuses.size() - 1));
+        }
+
+        storage.stopExports();
+        File csvFile = new File(System.getProperty("user.dir") + "/data/" + filename + ".csv");
+        assertEquals(persons.size() + 1, Files.readAllLines(csvFile.toPath()).size());
+
+        csvFile.delete();
+    }
 }
@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
@@ -19,6 +22,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +80,53 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_mixedCaseKeywords_matchesAsBefore() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("kURZ fiona");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterFind_filterFollowsNewName() {
+        NameContainsKeywordsPredicate predicate = preparePredicate("Kurz");
+        new FindCommand(predicate).execute(model);
+        assertEquals(Arrays.asList(CARL), model.getFilteredPersonList());
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        model.setPerson(CARL, renamedCarl);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Kurz").build();
+        model.setPerson(ELLE, renamedElle);
+        assertEquals(Arrays.asList(renamedElle), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagKeywords_personsWithAnyTagFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        TagContainsKeywordsPredicate predicate =
+                new TagContainsKeywordsPredicate(Arrays.asList("OWESMONEY", "friends"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personTaggedAfterFind_filterFollowsNewTags() {
+        new FindCommand(new TagContainsKeywordsPredicate(Arrays.asList("owesMoney"))).execute(model);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+
+        Person taggedCarl = new PersonBuilder(CARL).withTags("owesmoney").build();
+        model.setPerson(CARL, taggedCarl);
+        model.deletePerson(BENSON);
+        assertEquals(Arrays.asList(taggedCarl), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
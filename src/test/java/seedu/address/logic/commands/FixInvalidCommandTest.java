@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.junit.jupiter.api.Test;
 
@@ -17,6 +18,7 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -80,11 +82,26 @@ public class FixInvalidCommandTest {
             return null;
         }
 
+        @Override
+        public long getAddressBookVersion() {
+            return 0;
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             return persons.stream().anyMatch(person::isSamePerson);
         }
 
+        @Override
+        public boolean hasPersonWithEmail(Email email) {
+            return persons.stream().anyMatch(p -> p.getEmail().equals(email));
+        }
+
+        @Override
+        public List<Person> getPersonsByEmail(Email email) {
+            return persons.stream().filter(p -> p.getEmail().equals(email)).toList();
+        }
+
         @Override
         public void deletePerson(Person target) {}
 
@@ -93,9 +110,51 @@ public class FixInvalidCommandTest {
             persons.add(person);
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            this.persons.addAll(persons);
+        }
+
+        @Override
+        public List<Person> deletePersons(Predicate<? super Person> predicate) {
+            List<Person> deleted = persons.stream().filter(predicate).toList();
+            persons.removeIf(predicate);
+            return deleted;
+        }
+
+        @Override
+        public int replacePersons(UnaryOperator<Person> mapper) {
+            persons.replaceAll(mapper);
+            return persons.size();
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {}
 
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            return null;
+        }
+
+        @Override
+        public void commitAddressBook() {}
+
+        @Override
+        public boolean canUndoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            return false;
+        }
+
+        @Override
+        public void undoAddressBook() {}
+
+        @Override
+        public void redoAddressBook() {}
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             return null;
@@ -103,6 +162,16 @@ public class FixInvalidCommandTest {
 
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {}
+
+        @Override
+        public boolean isShown(Person person) {
+            return false;
+        }
+
+        @Override
+        public Predicate<Person> getIndexedPredicate(Predicate<Person> predicate) {
+            return predicate;
+        }
     }
 
     /* ===========================
@@ -0,0 +1,86 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonExporter;
+
+public class ImportCommandTest {
+
+    private static final String FILENAME = "import_test.csv";
+    private static final Path FILE = Paths.get(System.getProperty("user.dir"), "data", FILENAME);
+
+    @AfterEach
+    public void deleteFile() throws Exception {
+        Files.deleteIfExists(FILE);
+    }
+
+    @Test
+    public void execute_newAndExistingContacts_addsNewOnesInOneChange() throws Exception {
+        CsvPersonExporter.write(List.of(ALICE, BENSON, CARL), FILE, written -> {});
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(BENSON);
+        long version = model.getAddressBookVersion();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+
+        CommandResult result = new ImportCommand(FILENAME).execute(model);
+
+        assertEquals(List.of(BENSON, ALICE, CARL), model.getAddressBook().getPersonList());
+        assertEquals(1, changes.size());
+        assertEquals(version + 1, model.getAddressBookVersion());
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 2, FILENAME) + "\n"
+                + String.format(ImportCommand.MESSAGE_SKIPPED, 0, 1) + "\n"
+                + String.format(ImportCommand.MESSAGE_EXISTING_PERSON, BENSON.getName()),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_invalidRow_listedAndSkipped() throws Exception {
+        Files.createDirectories(FILE.getParent());
+        Files.writeString(FILE, CsvPersonExporter.HEADER + "Bob Choo,not a phone,bob@example.com,Clementi,HDB,\n");
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+        CommandResult result = new ImportCommand(FILENAME).execute(model);
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertTrue(result.getFeedbackToUser().contains(String.format(ImportCommand.MESSAGE_SKIPPED, 1, 0)));
+        assertTrue(result.getFeedbackToUser().contains("Row 1: "));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        assertThrows(CommandException.class, () -> new ImportCommand("missing_import.csv").execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importClients = new ImportCommand("clients.csv");
+        assertTrue(importClients.equals(importClients));
+        assertTrue(importClients.equals(new ImportCommand("clients.csv")));
+        assertFalse(importClients.equals(new ImportCommand("other.csv")));
+        assertFalse(importClients.equals(null));
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportCommand;
+
+public class ImportCommandParserTest {
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_csvOrJsonFilename_returnsImportCommand() {
+        assertParseSuccess(parser, " clients.csv ", new ImportCommand("clients.csv"));
+        assertParseSuccess(parser, "backup.JSON", new ImportCommand("backup.JSON"));
+    }
+
+    @Test
+    public void parse_missingOrUnsupportedFilename_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+        assertParseFailure(parser, "   ", expectedMessage);
+        assertParseFailure(parser, "clients", expectedMessage);
+        assertParseFailure(parser, "clients.txt", expectedMessage);
+    }
+}
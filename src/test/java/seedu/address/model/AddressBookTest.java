@@ -7,8 +7,10 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -17,6 +19,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -33,6 +36,27 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void getVersion_contentsChanged_increases() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_contentsUnchanged_same() {
+        addressBook.resetData(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).build());
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -45,6 +69,22 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_onePersonAdded_singleChangeAndVersionBump() {
+        addressBook.resetData(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) changes::add);
+        AddressBook newData = getTypicalAddressBook();
+        newData.addPerson(HOON);
+
+        addressBook.resetData(newData);
+
+        assertEquals(newData, addressBook);
+        assertEquals(1, changes.size());
+        assertEquals(version + 1, addressBook.getVersion());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -80,6 +120,21 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void snapshot_laterChanges_keepsContentAndVersion() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        assertTrue(snapshot == addressBook.snapshot());
+
+        addressBook.addPerson(HOON);
+
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+        assertEquals(addressBook.getVersion() - 1, snapshot.getVersion());
+        assertEquals(addressBook.getVersion(), addressBook.snapshot().getVersion());
+        AddressBookSnapshot copy = AddressBookSnapshot.of(new AddressBookStub(List.of()));
+        assertEquals(AddressBookSnapshot.NO_VERSION, copy.getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -129,4 +130,59 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void undoRedo_committedChanges_restoresEachState() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        AddressBookSnapshot withBoth = modelManager.getAddressBookSnapshot();
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        assertEquals(withBoth.getPersonList(), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_uncommittedChange_undoesItAndDropsRedo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.addPerson(BENSON);
+        assertFalse(modelManager.canRedoAddressBook());
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.getAddressBook().getPersonList().isEmpty());
+        assertTrue(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_beyondUndoHistoryDepth_dropsOldestStates() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_unchanged_recordsNothing() {
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+    }
 }
@@ -0,0 +1,197 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class RefiningFilteredListTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final RefiningFilteredList filteredList = new RefiningFilteredList(addressBook.getPersonList());
+
+    @Test
+    public void setPredicate_fewerKeywords_testsOnlyCurrentMatches() {
+        NameContainsKeywordsPredicate wide = names("Alice", "Benson", "Carl");
+        filteredList.setPredicate(wide, wide);
+        assertEquals(List.of(ALICE, BENSON, CARL), filteredList);
+
+        List<Person> tested = new ArrayList<>();
+        NameContainsKeywordsPredicate narrow = names("Alice");
+        filteredList.setPredicate(narrow, recording(narrow, tested));
+
+        assertEquals(List.of(ALICE), filteredList);
+        assertEquals(List.of(ALICE, BENSON, CARL), tested);
+    }
+
+    @Test
+    public void setPredicate_moreKeywords_testsOnlyCurrentNonMatches() {
+        NameContainsKeywordsPredicate narrow = names("Benson");
+        filteredList.setPredicate(narrow, narrow);
+
+        List<Person> tested = new ArrayList<>();
+        NameContainsKeywordsPredicate wide = names("Benson", "Daniel", "Alice");
+        filteredList.setPredicate(wide, recording(wide, tested));
+
+        List<Person> expectedTested = new ArrayList<>(addressBook.getPersonList());
+        expectedTested.remove(BENSON);
+        assertEquals(List.of(ALICE, BENSON, DANIEL), filteredList);
+        assertEquals(expectedTested, tested);
+    }
+
+    @Test
+    public void setPredicate_showAllAfterFind_testsOnlyCurrentNonMatches() {
+        TagContainsKeywordsPredicate friends = new TagContainsKeywordsPredicate(List.of("friends"));
+        filteredList.setPredicate(friends, friends);
+        int matchCount = filteredList.size();
+
+        List<Person> tested = new ArrayList<>();
+        filteredList.setPredicate(Model.PREDICATE_SHOW_ALL_PERSONS,
+                recording(Model.PREDICATE_SHOW_ALL_PERSONS, tested));
+
+        assertEquals(addressBook.getPersonList(), filteredList);
+        assertEquals(addressBook.getPersonList().size() - matchCount, tested.size());
+    }
+
+    @Test
+    public void setPredicate_unrelatedKeywords_testsEveryPerson() {
+        NameContainsKeywordsPredicate alice = names("Alice");
+        filteredList.setPredicate(alice, alice);
+
+        List<Person> tested = new ArrayList<>();
+        NameContainsKeywordsPredicate carl = names("Carl");
+        filteredList.setPredicate(carl, recording(carl, tested));
+
+        assertEquals(List.of(CARL), filteredList);
+        assertEquals(addressBook.getPersonList(), tested);
+    }
+
+    @Test
+    public void setPredicate_unrelatedKeywordsWithMatches_testsNoPerson() {
+        NameContainsKeywordsPredicate alice = names("Alice");
+        filteredList.setPredicate(alice, alice);
+
+        List<Person> tested = new ArrayList<>();
+        NameContainsKeywordsPredicate carl = names("Carl", "Daniel");
+        filteredList.setPredicate(carl, recording(carl, tested), () -> addressBook.getPositionsMatching(carl));
+
+        assertEquals(List.of(CARL, DANIEL), filteredList);
+        assertEquals(List.of(), tested);
+    }
+
+    @Test
+    public void setPredicate_findAfterShowAllWithMatches_testsNoPerson() {
+        List<Person> tested = new ArrayList<>();
+        NameContainsKeywordsPredicate benson = names("benson");
+        filteredList.setPredicate(benson, recording(benson, tested), () -> addressBook.getPositionsMatching(benson));
+
+        assertEquals(List.of(BENSON), filteredList);
+        assertEquals(List.of(), tested);
+    }
+
+    @Test
+    public void sourceAndPredicateChanges_sameAsFilteredList() {
+        FilteredList<Person> expected = new FilteredList<>(addressBook.getPersonList());
+        List<Person> replayed = new ArrayList<>(filteredList);
+        filteredList.addListener((ListChangeListener<Person>) change -> replay(change, replayed));
+        List<Predicate<Person>> predicates = List.of(Model.PREDICATE_SHOW_ALL_PERSONS, names("a"),
+                names("a", "b"), names("b"), new TagContainsKeywordsPredicate(List.of("ta")),
+                new TagContainsKeywordsPredicate(List.of("ta", "tb")));
+        Random random = new Random(5);
+
+        for (int step = 0; step < 400; step++) {
+            List<Person> persons = addressBook.getPersonList();
+            int choice = random.nextInt(6);
+            if (choice == 0) {
+                Predicate<Person> predicate = predicates.get(random.nextInt(predicates.size()));
+                if (random.nextBoolean()) {
+                    filteredList.setPredicate(predicate, predicate, () -> addressBook.getPositionsMatching(predicate));
+                } else {
+                    filteredList.setPredicate(predicate, predicate);
+                }
+                expected.setPredicate(predicate);
+            } else if (choice == 1 || persons.isEmpty()) {
+                Person first = randomPerson(random);
+                Person second = randomPerson(random);
+                addressBook.addPersons(List.of(first, second).stream()
+                        .filter(person -> !addressBook.hasPerson(person))
+                        .filter(person -> person == first || !person.isSamePerson(first)).toList());
+            } else if (choice == 2) {
+                addressBook.removePerson(persons.get(random.nextInt(persons.size())));
+            } else if (choice == 3) {
+                Person target = persons.get(random.nextInt(persons.size()));
+                addressBook.setPerson(target, new PersonBuilder(target).withTags(randomTag(random)).build());
+            } else if (choice == 4) {
+                addressBook.removePersons(person -> random.nextInt(4) == 0);
+            } else {
+                List<Person> shuffled = new ArrayList<>(persons);
+                shuffled.remove(random.nextInt(shuffled.size()));
+                shuffled.add(random.nextInt(shuffled.size() + 1), randomPerson(random));
+                if (shuffled.stream().map(Person::getName).distinct().count() == shuffled.size()) {
+                    addressBook.setPersons(shuffled);
+                }
+            }
+            assertEquals(expected, filteredList);
+            assertEquals(expected, replayed);
+        }
+    }
+
+    private static NameContainsKeywordsPredicate names(String... keywords) {
+        return new NameContainsKeywordsPredicate(List.of(keywords));
+    }
+
+    private static Predicate<Person> recording(Predicate<Person> predicate, List<Person> tested) {
+        return person -> {
+            tested.add(person);
+            return predicate.test(person);
+        };
+    }
+
+    private static Person randomPerson(Random random) {
+        return new PersonBuilder().withName(random.nextBoolean() ? "a " + letters(random) : "b " + letters(random))
+                .withTags(randomTag(random)).build();
+    }
+
+    private static String randomTag(Random random) {
+        return "t" + (char) ('a' + random.nextInt(3));
+    }
+
+    private static String letters(Random random) {
+        return String.valueOf((char) ('a' + random.nextInt(26))) + (char) ('a' + random.nextInt(26));
+    }
+
+    /**
+     * Applies {@code change} to {@code list}, as a listener relying on the reported changes alone would.
+     */
+    private static void replay(ListChangeListener.Change<? extends Person> change, List<Person> list) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Person> permuted = new ArrayList<>(list);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), list.get(i));
+                }
+                list.clear();
+                list.addAll(permuted);
+            } else if (!change.wasUpdated()) {
+                list.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                list.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
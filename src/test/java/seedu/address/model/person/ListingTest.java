@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -50,6 +51,15 @@ public class ListingTest {
         assertTrue(Listing.isValidListing("  Valid listing with spaces  ")); // leading/trailing spaces are fine
     }
 
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        Listing listing = Listing.of("HDB");
+        assertSame(listing, Listing.of(new String("HDB")));
+        assertEquals(new Listing("HDB"), listing);
+        assertThrows(IllegalArgumentException.class, () -> Listing.of(" "));
+        assertThrows(NullPointerException.class, () -> Listing.of(null));
+    }
+
     @Test
     public void getListing_returnsCorrectValue() {
         String listingValue = "My Listing Details";
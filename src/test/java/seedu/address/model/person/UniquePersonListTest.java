@@ -2,21 +2,36 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.lettersFor;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +62,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedByDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -109,6 +139,157 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_afterEarlierRemovals_replacesCorrectSlot() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.remove(CARL);
+        Person editedDaniel = new PersonBuilder(DANIEL).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(DANIEL, editedDaniel);
+
+        List<Person> expectedPersons = new ArrayList<>(getTypicalPersons());
+        expectedPersons.remove(ALICE);
+        expectedPersons.remove(CARL);
+        expectedPersons.set(expectedPersons.indexOf(DANIEL), editedDaniel);
+        assertEquals(expectedPersons, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
+    @Test
+    public void setPerson_existingPerson_firesSingleReplacement() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<String> changes = recordChanges();
+
+        uniquePersonList.setPerson(CARL, BOB);
+
+        int carlIndex = getTypicalPersons().indexOf(CARL);
+        assertEquals(List.of("replaced " + carlIndex + " " + List.of(CARL) + " -> " + List.of(BOB)), changes);
+    }
+
+    @Test
+    public void addAll_newPersons_firesSingleAddition() {
+        uniquePersonList.add(ALICE);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.addAll(List.of(BOB, CARL));
+
+        assertEquals(List.of("added 1 " + List.of(BOB, CARL)), changes);
+        assertTrue(uniquePersonList.contains(CARL));
+        assertEquals(Optional.of(CARL), uniquePersonList.getPersonByName(CARL.getName()));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonExceptionAndAddsNothing() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_matchingPersons_removedInOneChange() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<String> changes = recordChanges();
+        int[] changeCount = countChanges();
+
+        List<Person> removed = uniquePersonList.removeAll(person -> person == BENSON || person == DANIEL);
+
+        assertEquals(List.of(BENSON, DANIEL), removed);
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of("removed 1 [" + BENSON + "]", "removed 2 [" + DANIEL + "]"), changes);
+        assertEquals(List.of(ALICE, CARL, ELLE, FIONA, GEORGE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(GEORGE), uniquePersonList.getPersonByName(GEORGE.getName()));
+        assertFalse(uniquePersonList.contains(DANIEL));
+        assertTrue(uniquePersonList.getPersonsByEmail(BENSON.getEmail()).isEmpty());
+
+        uniquePersonList.remove(GEORGE);
+        assertEquals(List.of(ALICE, CARL, ELLE, FIONA), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_everyOtherPersonOfLongList_sameAsRemovingOneByOne() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(new PersonBuilder().withName("Person " + lettersFor(i)).withTags("t" + lettersFor(i % 3))
+                    .build());
+        }
+        uniquePersonList.setPersons(persons);
+        int[] changeCount = countChanges();
+
+        uniquePersonList.removeAll(person -> persons.indexOf(person) % 2 == 0);
+
+        List<Person> expected = new ArrayList<>();
+        for (int i = 1; i < persons.size(); i += 2) {
+            expected.add(persons.get(i));
+        }
+        assertEquals(1, changeCount[0]);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        for (Person person : expected) {
+            assertEquals(Optional.of(person), uniquePersonList.getPersonByName(person.getName()));
+        }
+        assertFalse(uniquePersonList.contains(persons.get(0)));
+        assertEquals(expected.stream().filter(person -> person.getTags().contains(new Tag("ta"))).count(),
+                uniquePersonList.countPersonsWithTag(new Tag("ta")));
+    }
+
+    @Test
+    public void removeAll_noMatch_noChange() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        int[] changeCount = countChanges();
+
+        assertTrue(uniquePersonList.removeAll(person -> false).isEmpty());
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void replaceAll_personsSwapNames_replacedInOneChange() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        int[] changeCount = countChanges();
+        Person aliceAsBenson = new PersonBuilder(ALICE).withName(BENSON.getName().fullName).build();
+        Person bensonAsAlice = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+
+        int replacedCount = uniquePersonList.replaceAll(person -> person == ALICE ? aliceAsBenson
+                : person == BENSON ? bensonAsAlice : new PersonBuilder(person).build());
+
+        assertEquals(2, replacedCount);
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of(aliceAsBenson, bensonAsAlice, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertSame(CARL, uniquePersonList.asUnmodifiableObservableList().get(2));
+        assertEquals(Optional.of(bensonAsAlice), uniquePersonList.getPersonByName(ALICE.getName()));
+        assertEquals(List.of(aliceAsBenson), uniquePersonList.getPersonsByEmail(ALICE.getEmail()));
+    }
+
+    @Test
+    public void replaceAll_onePersonChanged_replacesOnlyThatPerson() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<String> changes = recordChanges();
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+
+        assertEquals(1, uniquePersonList.replaceAll(person -> person == CARL ? editedCarl : person));
+
+        assertEquals(List.of("replaced 2 [" + CARL + "] -> [" + editedCarl + "]"), changes);
+        assertEquals(1, uniquePersonList.countPersonsWithTag(new Tag(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void replaceAll_duplicateIdentities_throwsDuplicatePersonExceptionAndChangesNothing() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        int[] changeCount = countChanges();
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceAll(person ->
+                new PersonBuilder(person).withName(ALICE.getName().fullName).build()));
+
+        assertEquals(0, changeCount[0]);
+        assertEquals(getTypicalPersons(), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(BENSON), uniquePersonList.getPersonByName(BENSON.getName()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +308,90 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void remove_afterEarlierRemovals_removesCorrectPersonAndFiresSingleRemoval() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.remove(ALICE);
+        List<String> changes = recordChanges();
+
+        uniquePersonList.remove(DANIEL);
+
+        int danielIndex = getTypicalPersons().indexOf(DANIEL) - 1;
+        assertEquals(List.of("removed " + danielIndex + " " + List.of(DANIEL)), changes);
+        assertFalse(uniquePersonList.contains(DANIEL));
+    }
+
+    @Test
+    public void setPersonsIncrementally_onePersonAdded_insertedWhereItBelongs() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<String> changes = recordChanges();
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(3, BOB);
+
+        uniquePersonList.setPersonsIncrementally(persons);
+
+        assertEquals(List.of("added 3 [" + BOB + "]"), changes);
+        assertEquals(persons, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(GEORGE), uniquePersonList.getPersonByName(GEORGE.getName()));
+        uniquePersonList.remove(GEORGE);
+        uniquePersonList.remove(DANIEL);
+        assertEquals(Optional.of(FIONA), uniquePersonList.getPersonByName(FIONA.getName()));
+    }
+
+    @Test
+    public void setPersonsIncrementally_editRemovalAndAddition_onlyThoseChanged() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL, DANIEL, ELLE));
+        List<String> changes = recordChanges();
+        Person editedBenson = new PersonBuilder(BENSON).withTags("vip").build();
+
+        uniquePersonList.setPersonsIncrementally(List.of(ALICE, editedBenson, DANIEL, BOB, ELLE));
+
+        assertEquals(List.of("removed 2 [" + CARL + "]", "replaced 1 [" + BENSON + "] -> [" + editedBenson + "]",
+                "added 3 [" + BOB + "]"), changes);
+        assertEquals(List.of(ALICE, editedBenson, DANIEL, BOB, ELLE), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, uniquePersonList.countPersonsWithTag(new Tag("vip")));
+        assertFalse(uniquePersonList.contains(CARL));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void setPersonsIncrementally_sameContents_noChange() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        List<String> changes = recordChanges();
+
+        uniquePersonList.setPersonsIncrementally(getTypicalPersons());
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void setPersonsIncrementally_reordered_replacesContents() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL));
+        List<String> changes = recordChanges();
+
+        uniquePersonList.setPersonsIncrementally(List.of(CARL, BENSON, ALICE, BOB));
+
+        assertEquals(List.of("replaced 0 " + List.of(ALICE, BENSON, CARL) + " -> " + List.of(CARL, BENSON, ALICE, BOB)),
+                changes);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonByName(ALICE.getName()));
+    }
+
+    @Test
+    public void setPersonsIncrementally_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersonsIncrementally(
+                List.of(BOB, BOB)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +427,147 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_list_replacesIdentityIndex() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getPersonsByEmail_sharedEmail_returnsPersonsInInsertionOrder() {
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        uniquePersonList.add(bobWithAliceEmail);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        assertEquals(List.of(bobWithAliceEmail, ALICE), uniquePersonList.getPersonsByEmail(ALICE.getEmail()));
+        assertEquals(List.of(CARL), uniquePersonList.getPersonsByEmail(CARL.getEmail()));
+    }
+
+    @Test
+    public void getPersonsByEmail_afterEditAndRemoval_tracksCurrentEmails() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        Person carlWithBobEmail = new PersonBuilder(CARL).withEmail(BOB.getEmail().value).build();
+        uniquePersonList.setPerson(CARL, carlWithBobEmail);
+        uniquePersonList.remove(DANIEL);
+
+        assertFalse(uniquePersonList.containsEmail(CARL.getEmail()));
+        assertFalse(uniquePersonList.containsEmail(DANIEL.getEmail()));
+        assertTrue(uniquePersonList.containsEmail(BOB.getEmail()));
+        assertEquals(List.of(carlWithBobEmail), uniquePersonList.getPersonsByEmail(BOB.getEmail()));
+        assertEquals(Collections.emptyList(), uniquePersonList.getPersonsByEmail(DANIEL.getEmail()));
+    }
+
+    @Test
+    public void getIndexedNamePredicate_variousKeywords_agreesWithPredicate() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Zoe  ANNE Lim").build());
+        uniquePersonList.setPersons(persons);
+
+        List<List<String>> keywordLists = List.of(List.of("alice"), List.of("KURZ", "meyer"), List.of("anne"),
+                List.of("Zoe", "nobody"), List.of("Ali"), Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Predicate<Person> indexedPredicate = uniquePersonList.getIndexedNamePredicate(predicate);
+            for (Person person : uniquePersonList) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person), keywords + " on " + person);
+            }
+        }
+    }
+
+    @Test
+    public void getIndexedNamePredicate_afterEditAndRemoval_tracksCurrentNames() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        Predicate<Person> indexedPredicate = uniquePersonList.getIndexedNamePredicate(
+                new NameContainsKeywordsPredicate(List.of("kurz")));
+        Person renamedDaniel = new PersonBuilder(DANIEL).withName("Daniel Kurz").build();
+        uniquePersonList.setPerson(DANIEL, renamedDaniel);
+        uniquePersonList.remove(CARL);
+
+        assertFalse(indexedPredicate.test(CARL));
+        assertTrue(indexedPredicate.test(renamedDaniel));
+        assertFalse(indexedPredicate.test(ALICE));
+    }
+
+    @Test
+    public void getIndexedNamePredicate_keywordNotSingleWord_returnsOriginalPredicate() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("alice", "two words"));
+        assertSame(predicate, uniquePersonList.getIndexedNamePredicate(predicate));
+    }
+
+    @Test
+    public void getPositionsMatching_afterRemoval_positionsOfMatchesInOrder() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        uniquePersonList.remove(ALICE);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("kurz", "MEIER"));
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < uniquePersonList.asUnmodifiableObservableList().size(); i++) {
+            if (predicate.test(uniquePersonList.asUnmodifiableObservableList().get(i))) {
+                expected.add(i);
+            }
+        }
+        assertEquals(expected, Arrays.stream(uniquePersonList.getPositionsMatching(predicate)).boxed().toList());
+        assertNull(uniquePersonList.getPositionsMatching(new NameContainsKeywordsPredicate(List.of("two words"))));
+    }
+
+    @Test
+    public void getIndexedTagPredicate_variousKeywords_agreesWithPredicate() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Zoe Lim").withTags("Friends", "colleague").build());
+        uniquePersonList.setPersons(persons);
+
+        List<List<String>> keywordLists = List.of(List.of("friends"), List.of("OWESMONEY", "colleague"),
+                List.of("friend"), List.of("nobody"), Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(keywords);
+            Predicate<Person> indexedPredicate = uniquePersonList.getIndexedTagPredicate(predicate);
+            for (Person person : uniquePersonList) {
+                assertEquals(predicate.test(person), indexedPredicate.test(person), keywords + " on " + person);
+            }
+        }
+    }
+
+    @Test
+    public void getIndexedTagPredicate_afterEditAndRemoval_tracksCurrentTags() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        Predicate<Person> indexedPredicate = uniquePersonList.getIndexedTagPredicate(
+                new TagContainsKeywordsPredicate(List.of("friends")));
+        assertTrue(indexedPredicate.test(ALICE));
+
+        uniquePersonList.remove(ALICE);
+        Person taggedCarl = new PersonBuilder(CARL).withTags("Friends").build();
+        uniquePersonList.setPerson(CARL, taggedCarl);
+        uniquePersonList.add(new PersonBuilder(ALICE).withTags().build());
+
+        assertFalse(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(taggedCarl));
+        assertTrue(indexedPredicate.test(DANIEL));
+    }
+
+    @Test
+    public void countPersonsWithTag_afterEditAndRemoval_countsCurrentTags() {
+        uniquePersonList.setPersons(getTypicalPersons());
+        Tag friends = new Tag("friends");
+        assertEquals(3, uniquePersonList.countPersonsWithTag(friends));
+
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, new PersonBuilder(CARL).withTags("friends").build());
+        uniquePersonList.setPerson(BENSON, new PersonBuilder(BENSON).withTags().build());
+        assertEquals(2, uniquePersonList.countPersonsWithTag(friends));
+        assertEquals(0, uniquePersonList.countPersonsWithTag(new Tag("owesMoney")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +578,31 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    /**
+     * Returns a list that records a summary of every change subsequently fired by {@code uniquePersonList}.
+     */
+    private int[] countChanges() {
+        int[] changeCount = new int[1];
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+        return changeCount;
+    }
+
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getFrom() + " " + change.getRemoved()
+                            + " -> " + change.getAddedSubList());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getFrom() + " " + change.getRemoved());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getFrom() + " " + change.getAddedSubList());
+                }
+            }
+        });
+        return changes;
+    }
 }
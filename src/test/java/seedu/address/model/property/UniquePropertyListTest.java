@@ -0,0 +1,111 @@
+package seedu.address.model.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.property.exceptions.DuplicatePropertyException;
+import seedu.address.model.property.exceptions.PropertyNotFoundException;
+
+public class UniquePropertyListTest {
+
+    private static final Property SUNNY_VILLA = property("Sunny Villa", "123 Example St", 500000);
+    private static final Property CITY_LOFT = property("City Loft", "45 Orchard Rd", 1200000);
+    private static final Property GARDEN_FLAT = property("Garden Flat", "8 Holland Rd", 450000);
+    private static final Property HILLTOP_MANSION = property("Hilltop Mansion", "7 Bukit Timah", 2000000);
+
+    private final UniquePropertyList uniquePropertyList = new UniquePropertyList();
+
+    @Test
+    public void contains_nullProperty_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePropertyList.contains(null));
+    }
+
+    @Test
+    public void contains_propertyWithSameNameInList_returnsTrue() {
+        uniquePropertyList.add(SUNNY_VILLA);
+        assertTrue(uniquePropertyList.contains(property("Sunny Villa", "1 Other Rd", 1)));
+    }
+
+    @Test
+    public void contains_propertyRemovedFromList_returnsFalse() {
+        uniquePropertyList.add(SUNNY_VILLA);
+        uniquePropertyList.remove(SUNNY_VILLA);
+        assertFalse(uniquePropertyList.contains(SUNNY_VILLA));
+    }
+
+    @Test
+    public void add_duplicateProperty_throwsDuplicatePropertyException() {
+        uniquePropertyList.add(SUNNY_VILLA);
+        assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.add(SUNNY_VILLA));
+    }
+
+    @Test
+    public void setProperty_targetNotInList_throwsPropertyNotFoundException() {
+        assertThrows(PropertyNotFoundException.class, () -> uniquePropertyList.setProperty(SUNNY_VILLA, CITY_LOFT));
+    }
+
+    @Test
+    public void setProperty_editedPropertyHasNonUniqueIdentity_throwsDuplicatePropertyException() {
+        uniquePropertyList.add(SUNNY_VILLA);
+        uniquePropertyList.add(CITY_LOFT);
+        assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.setProperty(SUNNY_VILLA, CITY_LOFT));
+    }
+
+    @Test
+    public void setProperty_afterEarlierRemoval_replacesCorrectSlot() {
+        uniquePropertyList.setProperties(Arrays.asList(SUNNY_VILLA, CITY_LOFT, HILLTOP_MANSION));
+        uniquePropertyList.remove(SUNNY_VILLA);
+        uniquePropertyList.setProperty(HILLTOP_MANSION, GARDEN_FLAT);
+        assertEquals(Arrays.asList(CITY_LOFT, GARDEN_FLAT), uniquePropertyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_propertyDoesNotExist_throwsPropertyNotFoundException() {
+        assertThrows(PropertyNotFoundException.class, () -> uniquePropertyList.remove(SUNNY_VILLA));
+    }
+
+    @Test
+    public void setProperties_listWithDuplicateProperties_throwsDuplicatePropertyException() {
+        List<Property> listWithDuplicates = Arrays.asList(SUNNY_VILLA, CITY_LOFT,
+                property("Sunny Villa", "1 Other Rd", 1));
+        assertThrows(DuplicatePropertyException.class, () -> uniquePropertyList.setProperties(listWithDuplicates));
+    }
+
+    @Test
+    public void getPropertiesInPriceRange_inclusiveBounds_returnsPropertiesOrderedByPrice() {
+        uniquePropertyList.setProperties(Arrays.asList(HILLTOP_MANSION, SUNNY_VILLA, CITY_LOFT, GARDEN_FLAT));
+        assertEquals(Arrays.asList(GARDEN_FLAT, SUNNY_VILLA),
+                uniquePropertyList.getPropertiesInPriceRange(400000, 600000));
+        assertEquals(Arrays.asList(SUNNY_VILLA, CITY_LOFT),
+                uniquePropertyList.getPropertiesInPriceRange(500000, 1200000));
+        assertEquals(Collections.emptyList(), uniquePropertyList.getPropertiesInPriceRange(600000, 400000));
+    }
+
+    @Test
+    public void getPropertiesInPriceRange_afterEditAndRemoval_reflectsCurrentPrices() {
+        uniquePropertyList.setProperties(Arrays.asList(SUNNY_VILLA, CITY_LOFT, GARDEN_FLAT));
+        Property cheaperLoft = property("City Loft", "45 Orchard Rd", 550000);
+        uniquePropertyList.setProperty(CITY_LOFT, cheaperLoft);
+        uniquePropertyList.remove(GARDEN_FLAT);
+        assertEquals(Arrays.asList(SUNNY_VILLA, cheaperLoft),
+                uniquePropertyList.getPropertiesInPriceRange(400000, 600000));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePropertyList.asUnmodifiableObservableList().remove(0));
+    }
+
+    private static Property property(String name, String address, int price) {
+        return new Property(new Address(address), new Price(price), new Name(name));
+    }
+}
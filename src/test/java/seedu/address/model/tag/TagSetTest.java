@@ -0,0 +1,65 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag COLLEAGUES = Tag.of("colleagues");
+    private static final Tag NEIGHBOURS = Tag.of("neighbours");
+
+    @Test
+    public void of_duplicateTags_keepsDistinctTagsSortedByName() {
+        TagSet tagSet = TagSet.of(Arrays.asList(NEIGHBOURS, FRIENDS, new Tag("neighbours"), COLLEAGUES));
+        assertEquals(3, tagSet.size());
+        assertEquals(List.of(COLLEAGUES, FRIENDS, NEIGHBOURS), new ArrayList<>(tagSet));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsSharedEmptySet() {
+        assertSame(TagSet.of(Collections.emptySet()), TagSet.of(new HashSet<>()));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Set.of(FRIENDS, COLLEAGUES));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(NEIGHBOURS));
+        assertFalse(tagSet.contains("friends"));
+    }
+
+    @Test
+    public void equals() {
+        TagSet tagSet = TagSet.of(Set.of(FRIENDS, COLLEAGUES));
+
+        // same tags, any set implementation -> returns true
+        assertEquals(tagSet, TagSet.of(List.of(COLLEAGUES, FRIENDS)));
+        assertEquals(tagSet, new HashSet<>(List.of(FRIENDS, COLLEAGUES)));
+        assertEquals(new HashSet<>(List.of(FRIENDS, COLLEAGUES)), tagSet);
+        assertEquals(new HashSet<>(List.of(FRIENDS, COLLEAGUES)).hashCode(), tagSet.hashCode());
+
+        // different tags -> returns false
+        assertFalse(tagSet.equals(TagSet.of(Set.of(FRIENDS))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+}
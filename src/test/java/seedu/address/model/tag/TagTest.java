@@ -1,5 +1,7 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,14 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameTagName_returnsSameInstance() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals(new Tag("friends"), tag);
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("not valid"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -0,0 +1,95 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.of(elements);
+
+        assertEquals(elements, list.asList());
+        assertEquals(elements.size(), list.size());
+        assertEquals(4, list.get(2));
+    }
+
+    @Test
+    public void get_outOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.of(List.of(1, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().remove(0));
+    }
+
+    @Test
+    public void updates_randomOperations_sameAsArrayListAndEarlierVersionsUnchanged() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int choice = random.nextInt(4);
+            if (choice == 0 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else if (choice == 1 && !expected.isEmpty()) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, step);
+                list = list.set(index, step);
+            } else {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                list = list.insert(index, step);
+            }
+            if (step % 100 == 0) {
+                expectedVersions.add(new ArrayList<>(expected));
+                versions.add(list);
+            }
+        }
+
+        assertEquals(expected, list.asList());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void with_observedChanges_followsObservedList() {
+        ObservableList<Integer> observed = FXCollections.observableArrayList();
+        List<PersistentList<Integer>> mirror = new ArrayList<>(List.of(PersistentList.empty()));
+        observed.addListener((ListChangeListener<Integer>) change -> mirror.set(0, mirror.get(0).with(change)));
+        Random random = new Random(11);
+
+        for (int step = 0; step < 500; step++) {
+            int choice = random.nextInt(5);
+            if (choice == 0 && !observed.isEmpty()) {
+                observed.remove(random.nextInt(observed.size()));
+            } else if (choice == 1 && !observed.isEmpty()) {
+                observed.set(random.nextInt(observed.size()), step);
+            } else if (choice == 2 && observed.size() > 2) {
+                int from = random.nextInt(observed.size() - 1);
+                observed.remove(from, from + 2);
+            } else if (choice == 3 && step % 50 == 0) {
+                FXCollections.sort(observed);
+            } else {
+                observed.add(random.nextInt(observed.size() + 1), step);
+            }
+            assertEquals(observed, mirror.get(0).asList());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class BackgroundAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void requestSave_thenFlush_savesContentAtTimeOfRequest() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+
+        saver.requestSave(addressBook);
+        addressBook.addPerson(HOON);
+        saver.flush();
+
+        assertEquals(List.of(expected), storage.getSaved());
+    }
+
+    @Test
+    public void requestSave_whileWriting_coalescesQueuedSaves() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook first = new AddressBook(addressBook);
+
+        storage.blockNextSave();
+        saver.requestSave(addressBook);
+        assertTrue(storage.awaitBlockedSave());
+        addressBook.addPerson(HOON);
+        saver.requestSave(addressBook);
+        addressBook.addPerson(IDA);
+        saver.requestSave(addressBook);
+        storage.unblock();
+        saver.flush();
+
+        assertEquals(List.of(first, addressBook), storage.getSaved());
+    }
+
+    @Test
+    public void getWrittenVersion_afterSavesAndFailure_versionOfLastSaveWritten() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(AddressBookSnapshot.NO_VERSION, saver.getWrittenVersion());
+
+        saver.requestSave(addressBook);
+        saver.flush();
+        long writtenVersion = addressBook.getVersion();
+        assertEquals(writtenVersion, saver.getWrittenVersion());
+
+        addressBook.addPerson(HOON);
+        storage.failNextSave();
+        saver.requestSave(addressBook);
+        assertThrows(IOException.class, RecordingStorage.FAILURE_MESSAGE, saver::flush);
+        assertEquals(writtenVersion, saver.getWrittenVersion());
+    }
+
+    @Test
+    public void requestSave_earlierSaveFailed_failureReportedOnce() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.failNextSave();
+        saver.requestSave(addressBook);
+        saver.awaitIdle();
+        assertThrows(IOException.class, RecordingStorage.FAILURE_MESSAGE, () -> saver.requestSave(addressBook));
+        saver.flush();
+
+        assertEquals(List.of(addressBook), storage.getSaved());
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoException() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+
+        storage.failNextSave();
+        saver.requestSave(getTypicalAddressBook());
+
+        assertThrows(IOException.class, RecordingStorage.FAILURE_MESSAGE, saver::flush);
+    }
+
+    @Test
+    public void setFailureListener_saveFailed_listenerToldBeforeNextRequest() throws Exception {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressbook.json"));
+        BackgroundAddressBookSaver saver = new BackgroundAddressBookSaver(storage);
+        List<IOException> failures = new ArrayList<>();
+        saver.setFailureListener(failures::add);
+
+        storage.failNextSave();
+        saver.requestSave(getTypicalAddressBook());
+        saver.awaitIdle();
+
+        assertEquals(1, failures.size());
+        assertEquals(RecordingStorage.FAILURE_MESSAGE, failures.get(0).getMessage());
+        assertThrows(IOException.class, RecordingStorage.FAILURE_MESSAGE, saver::flush);
+    }
+
+    /**
+     * A storage that records the address books it is asked to save instead of writing them.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        static final String FAILURE_MESSAGE = "dummy IO exception";
+
+        private final List<AddressBook> saved = new ArrayList<>();
+        private CountDownLatch blockedSaveStarted = new CountDownLatch(0);
+        private CountDownLatch unblocked = new CountDownLatch(0);
+        private boolean isNextSaveFailing;
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        synchronized void blockNextSave() {
+            blockedSaveStarted = new CountDownLatch(1);
+            unblocked = new CountDownLatch(1);
+        }
+
+        boolean awaitBlockedSave() throws InterruptedException {
+            return blockedSaveStarted.await(10, TimeUnit.SECONDS);
+        }
+
+        void unblock() {
+            unblocked.countDown();
+        }
+
+        synchronized void failNextSave() {
+            isNextSaveFailing = true;
+        }
+
+        synchronized List<AddressBook> getSaved() {
+            return new ArrayList<>(saved);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            CountDownLatch toAwait;
+            synchronized (this) {
+                if (isNextSaveFailing) {
+                    isNextSaveFailing = false;
+                    throw new IOException(FAILURE_MESSAGE);
+                }
+                saved.add(new AddressBook(addressBook));
+                toAwait = blockedSaveStarted.getCount() > 0 ? unblocked : null;
+                blockedSaveStarted.countDown();
+            }
+            if (toAwait != null) {
+                try {
+                    toAwait.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
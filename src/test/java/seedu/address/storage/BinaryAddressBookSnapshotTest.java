@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithProperty;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class BinaryAddressBookSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_writtenForUnchangedJson_sameAddressBook() throws Exception {
+        Path json = testFolder.resolve("ab.json");
+        Path snapshot = BinaryAddressBookSnapshot.pathFor(json);
+        AddressBook original = getTypicalAddressBookWithProperty();
+        Files.writeString(json, "{}");
+
+        BinaryAddressBookSnapshot.write(snapshot, original, FileFingerprint.of(json));
+
+        assertEquals(original, BinaryAddressBookSnapshot.read(snapshot, json).get());
+    }
+
+    @Test
+    public void read_jsonChanged_empty() throws Exception {
+        Path json = testFolder.resolve("ab.json");
+        Path snapshot = BinaryAddressBookSnapshot.pathFor(json);
+        Files.writeString(json, "{}");
+        BinaryAddressBookSnapshot.write(snapshot, getTypicalAddressBookWithProperty(), FileFingerprint.of(json));
+
+        Files.writeString(json, "{ }");
+
+        assertFalse(BinaryAddressBookSnapshot.read(snapshot, json).isPresent());
+        assertFalse(BinaryAddressBookSnapshot.read(testFolder.resolve("missing.bin"), json).isPresent());
+    }
+
+    @Test
+    public void read_corruptPayload_throwsIoException() throws Exception {
+        Path json = testFolder.resolve("ab.json");
+        Path snapshot = BinaryAddressBookSnapshot.pathFor(json);
+        Files.writeString(json, "{}");
+        BinaryAddressBookSnapshot.write(snapshot, getTypicalAddressBookWithProperty(), FileFingerprint.of(json));
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(snapshot, bytes);
+
+        assertThrows(IOException.class, () -> BinaryAddressBookSnapshot.read(snapshot, json));
+    }
+
+    @Test
+    public void readAddressBook_jsonStorage_usesBinaryCopyUntilJsonChanges() throws Exception {
+        Path json = testFolder.resolve("ab.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(json);
+        AddressBook original = getTypicalAddressBookWithProperty();
+
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(BinaryAddressBookSnapshot.pathFor(json)));
+        assertEquals(original, storage.readAddressBook().get());
+
+        // a copy that no longer loads is ignored, and made again from the data file
+        Files.write(BinaryAddressBookSnapshot.pathFor(json), new byte[] {1, 2, 3});
+        assertEquals(original, storage.readAddressBook().get());
+        assertEquals(original, BinaryAddressBookSnapshot.read(BinaryAddressBookSnapshot.pathFor(json), json).get());
+
+        Files.writeString(json, "{ \"persons\": [] }");
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+}
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.lettersFor;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_valuesNeedingQuotes_sameAsRowByRowFormat() throws Exception {
+        List<Person> persons = List.of(
+                new PersonBuilder(ALICE).withAddress("123, \"Jurong\" West").withTags("a", "b", "c").build(),
+                new PersonBuilder(BENSON).withAddress("311 Clementi Ave").withTags().build());
+        Path file = testFolder.resolve("export.csv");
+
+        CsvPersonExporter.write(persons, file, written -> {});
+
+        assertArrayEquals(expectedCsv(persons).getBytes(Charset.defaultCharset()), Files.readAllBytes(file));
+    }
+
+    @Test
+    public void write_manyChunks_rowsInOrderAndProgressReported() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3 * CsvPersonExporter.CHUNK_SIZE + 5; i++) {
+            persons.add(new PersonBuilder().withName("Person " + lettersFor(i))
+                    .withAddress(i % 7 == 0 ? "a, b" : "c").build());
+        }
+        Path file = testFolder.resolve("export.csv");
+        List<Integer> progress = new ArrayList<>();
+
+        CsvPersonExporter.write(persons, file, progress::add);
+
+        assertArrayEquals(expectedCsv(persons).getBytes(Charset.defaultCharset()), Files.readAllBytes(file));
+        assertEquals(List.of(CsvPersonExporter.CHUNK_SIZE, 2 * CsvPersonExporter.CHUNK_SIZE,
+                3 * CsvPersonExporter.CHUNK_SIZE, persons.size()), progress);
+    }
+
+    @Test
+    public void write_failsPartWay_earlierFileKept() throws Exception {
+        Path file = testFolder.resolve("export.csv");
+        Files.writeString(file, "earlier export");
+        List<Person> persons = new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                if (index == CsvPersonExporter.CHUNK_SIZE) {
+                    throw new IllegalStateException("dummy failure");
+                }
+                return new PersonBuilder().withName("Person " + lettersFor(index)).build();
+            }
+
+            @Override
+            public int size() {
+                return 2 * CsvPersonExporter.CHUNK_SIZE;
+            }
+        };
+
+        assertThrows(RuntimeException.class, () -> CsvPersonExporter.write(persons, file, written -> {}));
+
+        assertEquals("earlier export", Files.readString(file));
+        assertEquals(List.of(file), Files.list(testFolder).toList());
+    }
+
+    /**
+     * Formats {@code persons} one value at a time, as the export has always been written.
+     */
+    private static String expectedCsv(List<Person> persons) {
+        StringBuilder csv = new StringBuilder("Name,Phone,Email,Address,Listing,Tags\n");
+        for (Person p : persons) {
+            csv.append(escape(p.getName().toString())).append(",");
+            csv.append(escape(p.getPhone().toString())).append(",");
+            csv.append(escape(p.getEmail().toString())).append(",");
+            csv.append(escape(p.getAddress().toString())).append(",");
+            csv.append(escape(p.getListing().toString())).append(",");
+            csv.append(escape(p.getTags().stream().map(Tag::toString).collect(Collectors.joining(";"))))
+                    .append("\n");
+        }
+        return csv.toString();
+    }
+
+    private static String escape(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
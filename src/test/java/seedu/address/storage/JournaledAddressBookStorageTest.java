@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        filePath = testFolder.resolve("addressbook.json");
+        storage = new JournaledAddressBookStorage(filePath);
+        addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, read(new JsonAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_singlePersonChanges_appendedToJournal() throws Exception {
+        byte[] snapshot = Files.readAllBytes(filePath);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(3, journalLines().size());
+        assertEquals(addressBook, read(storage));
+        assertEquals(addressBook, read(new JournaledAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_bulkAddAndRemove_appendedToJournal() throws Exception {
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        addressBook.addPersons(List.of(HOON, IDA));
+        addressBook.removePersons(person -> person.isSamePerson(ALICE) || person.isSamePerson(CARL));
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, journalLines().size());
+        assertEquals(addressBook, read(new JournaledAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_tornLastRecord_ignored() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        String tornRecord = "{\"op\":\"add\",\"person\":{\"name\":\"Ida";
+        Files.writeString(storage.getJournalFilePath(), tornRecord, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, read(new JournaledAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_recordNoLongerApplies_skipped() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(HOON);
+        storage.saveAddressBook(addressBook);
+        // Removing Hoon a second time, as when a journal is replayed onto a snapshot that already contains it
+        Files.writeString(storage.getJournalFilePath(), journalLines().get(1) + "\n", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, read(new JournaledAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_resetData_writesSnapshot() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        addressBook.resetData(new AddressBook());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, read(new JsonAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_untrackedAddressBook_writesSnapshot() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook other = new AddressBook();
+        other.addPerson(IDA);
+        storage.saveAddressBook(other);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(other, read(new JsonAddressBookStorage(filePath)));
+    }
+
+    @Test
+    public void compactAddressBook_journalFoldedIntoSnapshot() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        storage.compactAddressBook();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, read(new JsonAddressBookStorage(filePath)));
+    }
+
+    private List<String> journalLines() throws Exception {
+        return Files.readAllLines(storage.getJournalFilePath(), StandardCharsets.UTF_8);
+    }
+
+    private static ReadOnlyAddressBook read(JsonAddressBookStorage storage) throws Exception {
+        return storage.readAddressBook().get();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -11,7 +12,13 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Name;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 /**
@@ -82,4 +89,125 @@ public class JsonAddressBookStorageOverwriteTest {
         assertEquals(replacement.getName().fullName, names.get(1));
         assertEquals("Carl Kurz", names.get(2));
     }
+
+    @Test
+    void overwriteSavedFileSplicesRecordInPlace() throws Exception {
+        Path p = tempDir.resolve("saved.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(p);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        storage.readAddressBookWithReport(p);
+        Person editedBenson = new PersonBuilder(TypicalPersons.BENSON).withPhone("91234567").build();
+
+        LoadReport rep = storage.overwriteRawEntryAtIndex(1, editedBenson);
+
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        expected.setPerson(TypicalPersons.BENSON, editedBenson);
+        Path expectedFile = tempDir.resolve("expected.json");
+        new JsonAddressBookStorage(expectedFile).saveAddressBook(expected);
+        assertEquals(Files.readString(expectedFile, StandardCharsets.UTF_8),
+                Files.readString(p, StandardCharsets.UTF_8));
+        assertEquals(expected, rep.getModelData().getAddressBook());
+    }
+
+    @Test
+    void overwriteInvalidEntryReportMatchesFreshRead() throws Exception {
+        Path p = write("invalid.json",
+                "{ \"persons\": [\n"
+                        + "  {\"name\":\"Alice Pauline\",\"phone\":\"94351253\",\"email\":\"alice@example.com\","
+                        + "\"address\":\"123, Jurong West Ave 6, #08-111\",\"listing\":\"Condo\"},\n"
+                        + "  {\"name\":\"Benson Meier\",\"phone\":\"not a phone\",\"email\":\"johnd@example.com\","
+                        + "\"address\":\"311, Clementi Ave 2, #02-25\",\"listing\":\"HDB\"},\n"
+                        + "  {\"name\":\"Carl Kurz\",\"phone\":\"95352563\",\"email\":\"heinz@example.com\","
+                        + "\"address\":\"wall street\",\"listing\":\"Landed Property\"}\n"
+                        + "] }");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(p);
+        assertEquals(1, storage.readAddressBookWithReport(p).getInvalids().size());
+
+        LoadReport rep = storage.overwriteRawEntryAtIndex(1, TypicalPersons.BENSON);
+
+        LoadReport fresh = new JsonAddressBookStorage(p).readAddressBookWithReport(p);
+        assertTrue(rep.getInvalids().isEmpty());
+        assertTrue(fresh.getInvalids().isEmpty());
+        assertEquals(fresh.getModelData().getAddressBook(), rep.getModelData().getAddressBook());
+        assertEquals("Benson Meier", rep.getModelData().getAddressBook().getPersonList().get(1).getName().fullName);
+    }
+
+    @Test
+    void overwriteAfterFileChangedElsewhereUsesCurrentContents() throws Exception {
+        Path p = tempDir.resolve("changed.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(p);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        storage.readAddressBookWithReport(p);
+        AddressBook changed = new AddressBook();
+        changed.addPerson(TypicalPersons.HOON);
+        changed.addPerson(TypicalPersons.IDA);
+        new JsonAddressBookStorage(p).saveAddressBook(changed);
+
+        LoadReport rep = storage.overwriteRawEntryAtIndex(0, TypicalPersons.ALICE);
+
+        AddressBook expected = new AddressBook();
+        expected.addPerson(TypicalPersons.ALICE);
+        expected.addPerson(TypicalPersons.IDA);
+        assertEquals(expected, rep.getModelData().getAddressBook());
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(p).readAddressBook().get()));
+    }
+
+    @Test
+    void overwritePropertySplicesRecordInPlace() throws Exception {
+        Path p = tempDir.resolve("properties.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(p);
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        original.addProperty(property("Sunny Villa", "1 Sunny Road", 500000));
+        original.addProperty(property("Lake View", "2 Lake Road", 800000));
+        storage.saveAddressBook(original);
+        Property replacement = property("Lake View", "2 Lake Road", 750000);
+
+        LoadReport rep = storage.overwriteRawPropertyAtIndex(1, replacement);
+
+        AddressBook expected = new AddressBook(original);
+        expected.setProperty(original.getPropertyList().get(1), replacement);
+        Path expectedFile = tempDir.resolve("expectedProperties.json");
+        new JsonAddressBookStorage(expectedFile).saveAddressBook(expected);
+        assertEquals(Files.readString(expectedFile, StandardCharsets.UTF_8),
+                Files.readString(p, StandardCharsets.UTF_8));
+        assertEquals(expected, rep.getModelData().getAddressBook());
+    }
+
+    @Test
+    void overwriteSuccessivelyReportMatchesFreshRead() throws Exception {
+        Path p = tempDir.resolve("successive.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(p);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        storage.readAddressBookWithReport(p);
+        Person renamedBenson = new PersonBuilder(TypicalPersons.BENSON).withName("Benson Tan").build();
+
+        storage.overwriteRawEntryAtIndex(1, renamedBenson);
+        // the old name is free again once the record holding it is renamed
+        LoadReport rep = storage.overwriteRawEntryAtIndex(2, TypicalPersons.BENSON);
+
+        LoadReport fresh = new JsonAddressBookStorage(p).readAddressBookWithReport(p);
+        assertTrue(rep.getInvalids().isEmpty());
+        assertEquals(fresh.getModelData().getAddressBook(), rep.getModelData().getAddressBook());
+        assertEquals(renamedBenson, rep.getModelData().getReadOnlyAddressBook().getPersonList().get(1));
+        assertEquals(TypicalPersons.BENSON, rep.getModelData().getReadOnlyAddressBook().getPersonList().get(2));
+    }
+
+    @Test
+    void overwriteWithNameOfAnotherRecordQuarantinesItAsFreshReadDoes() throws Exception {
+        Path p = tempDir.resolve("duplicate.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(p);
+        storage.saveAddressBook(TypicalPersons.getTypicalAddressBook());
+        storage.readAddressBookWithReport(p);
+
+        LoadReport rep = storage.overwriteRawEntryAtIndex(2, TypicalPersons.ALICE);
+
+        LoadReport fresh = new JsonAddressBookStorage(p).readAddressBookWithReport(p);
+        assertEquals(1, rep.getInvalids().size());
+        assertEquals(2, rep.getInvalids().get(0).index());
+        assertEquals(fresh.getModelData().getAddressBook(), rep.getModelData().getAddressBook());
+    }
+
+    private static Property property(String name, String address, int price) {
+        return new Property(new Address(address), new Price(price), new Name(name));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -11,7 +13,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
- * Ensures readAddressBookWithReport does not mutate the raw JSON file on disk.
+ * Ensures readAddressBookWithReport does not mutate the raw JSON file on disk, and fingerprints what it read.
  */
 public class JsonAddressBookStorageReportTest {
 
@@ -35,4 +37,24 @@ public class JsonAddressBookStorageReportTest {
         int countPersons = raw.split("\"name\"").length - 1;
         assertEquals(2, countPersons);
     }
+
+    @Test
+    void readWithReport_fingerprintsFileAsItIsRead() throws Exception {
+        Path temp = Files.createTempFile("ab", ".json");
+        String json = "{ \"persons\":[\n"
+                + "  { \"name\":\"Roy Balakrishnan\",\"phone\":\"92624417\",\"email\":\"royb@example.com\","
+                + "\"address\":\"Blk 45\",\"listing\":\"Landed Property\" }\n"
+                + "] }\n";
+        Files.write(temp, json.getBytes(StandardCharsets.UTF_8));
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(temp);
+        LoadReport streamed = storage.readAddressBookWithReport(temp);
+        assertTrue(streamed.getSourceFingerprint().matches(temp));
+        // the second read loads the binary copy written by the first
+        LoadReport fromCopy = storage.readAddressBookWithReport(temp);
+        assertTrue(fromCopy.getSourceFingerprint().matches(temp));
+
+        Files.write(temp, json.replace("Blk 45", "Blk 46").getBytes(StandardCharsets.UTF_8));
+        assertFalse(streamed.getSourceFingerprint().matches(temp));
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Set;
@@ -133,8 +134,10 @@ public class JsonAddressBookStorageTest {
      */
     @Test
     public void readAddressBookWithReport_mixed_keepsValids() throws Exception {
-        // Arrange: point storage at the mixed file (valid + invalid)
-        Path path = addToTestDataPathIfNotNull("invalidAndValidPersonAddressBook.json");
+        // Arrange: point storage at a copy of the mixed file (valid + invalid), as reading a file without
+        // invalid entries writes its binary copy alongside
+        Path path = testFolder.resolve("invalidAndValidPersonAddressBook.json");
+        Files.copy(addToTestDataPathIfNotNull("invalidAndValidPersonAddressBook.json"), path);
         JsonAddressBookStorage storage = new JsonAddressBookStorage(path);
 
         // Act: load via report-based API
@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -43,4 +46,66 @@ public class JsonAddressBookStorageWithReportEdgeCasesTest {
         JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
         assertThrows(DataLoadingException.class, () -> storage.readAddressBookWithReport(file));
     }
+
+    /**
+     * A "persons" field that is not an array should result in a DataLoadingException.
+     */
+    @Test
+    public void readWithReport_personsIsNotArray_throwsDataLoadingException() throws IOException {
+        Path file = tempDir.resolve("personsObject.json");
+        Files.writeString(file, "{ \"persons\": { \"name\": \"Alice\" } }");
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBookWithReport(file));
+    }
+
+    /**
+     * A null entry in the persons array should result in a DataLoadingException.
+     */
+    @Test
+    public void readWithReport_nullPersonEntry_throwsDataLoadingException() throws IOException {
+        Path file = tempDir.resolve("nullPerson.json");
+        Files.writeString(file, "{ \"persons\": [ null ] }");
+
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBookWithReport(file));
+    }
+
+    /**
+     * Unknown fields are skipped, null lists are empty, and properties may come before persons.
+     */
+    @Test
+    public void readWithReport_unknownFieldsAndReorderedLists_readsRecords() throws Exception {
+        Path file = tempDir.resolve("reordered.json");
+        Files.writeString(file, "{ \"version\": { \"major\": [1, 2] }, "
+                + "\"properties\": [ { \"propertyName\": \"Sunny Villa\", \"price\": 500000, "
+                + "\"address\": \"123 Example St\" } ], "
+                + "\"persons\": [ { \"name\": \"Alice\", \"phone\": \"x\", \"email\": \"a@example.com\", "
+                + "\"address\": \"A\", \"listing\": \"HDB\", \"extra\": true }, "
+                + "{ \"name\": \"Bob\", \"phone\": \"91234567\", \"email\": \"b@example.com\", "
+                + "\"address\": \"B\", \"listing\": \"HDB\", \"tags\": null } ], "
+                + "\"trailing\": null }");
+
+        LoadReport report = new JsonAddressBookStorage(file).readAddressBookWithReport(file);
+
+        assertEquals(1, report.getModelData().getAddressBook().getPersonList().size());
+        assertEquals(1, report.getModelData().getAddressBook().getPropertyList().size());
+        assertEquals(1, report.getInvalids().size());
+        assertEquals(0, report.getInvalids().get(0).index());
+        assertEquals(Set.of("phone"), report.getInvalids().get(0).invalidFields());
+    }
+
+    /**
+     * Null person and property lists result in an empty address book.
+     */
+    @Test
+    public void readWithReport_nullLists_returnsEmptyReport() throws Exception {
+        Path file = tempDir.resolve("nullLists.json");
+        Files.writeString(file, "{ \"persons\": null, \"properties\": null }");
+
+        LoadReport report = new JsonAddressBookStorage(file).readAddressBookWithReport(file);
+
+        assertTrue(report.getModelData().getAddressBook().getPersonList().isEmpty());
+        assertTrue(report.getInvalids().isEmpty());
+    }
 }
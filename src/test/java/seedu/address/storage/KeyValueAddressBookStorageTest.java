@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Name;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class KeyValueAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void pathFor_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.kv"),
+                KeyValueAddressBookStorage.pathFor(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "book.kv"), KeyValueAddressBookStorage.pathFor(Paths.get("data", "book")));
+    }
+
+    @Test
+    public void saveAndRead_allInOrder_success() throws Exception {
+        Path file = testFolder.resolve("ab.kv");
+        AddressBook original = getTypicalAddressBookWithProperty();
+        new KeyValueAddressBookStorage(file).saveAddressBook(original);
+
+        assertEquals(original, new KeyValueAddressBookStorage(file).readAddressBook().get());
+    }
+
+    @Test
+    public void save_trackedBookEdited_appendsOnlyTheChanges() throws Exception {
+        Path file = testFolder.resolve("ab.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(file);
+        AddressBook addressBook = getTypicalAddressBookWithProperty();
+        storage.saveAddressBook(addressBook);
+        long fullSize = Files.size(file);
+
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(Files.size(file) - fullSize < fullSize / 2);
+        assertEquals(addressBook, new KeyValueAddressBookStorage(file).readAddressBook().get());
+    }
+
+    @Test
+    public void save_trackedBookChangedInManyWays_readsBackTheSame() throws Exception {
+        Path file = testFolder.resolve("ab.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(file);
+        AddressBook addressBook = getTypicalAddressBookWithProperty();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(CARL);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new KeyValueAddressBookStorage(file).readAddressBook().get());
+
+        addressBook.addPerson(HOON);
+        addressBook.addProperty(new Property(new Address("2 Moon Way"), new Price(1), new Name("Moon")));
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new KeyValueAddressBookStorage(file).readAddressBook().get());
+
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        reversed.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        addressBook.setPersons(reversed);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new KeyValueAddressBookStorage(file).readAddressBook().get());
+
+        storage.compactAddressBook();
+        assertEquals(addressBook, new KeyValueAddressBookStorage(file).readAddressBook().get());
+    }
+
+    @Test
+    public void importJson_invalidPerson_keptUntilOverwritten() throws Exception {
+        Path json = testFolder.resolve("ab.json");
+        new JsonAddressBookStorage(json).saveAddressBook(getTypicalAddressBookWithProperty());
+        Files.writeString(json, Files.readString(json).replace("\"9482427\"", "\"not a phone\""));
+        Path file = testFolder.resolve("ab.kv");
+        KeyValueAddressBookStorage storage = new KeyValueAddressBookStorage(file);
+
+        storage.importJson(json);
+
+        LoadReport report = storage.readAddressBookWithReport(file);
+        assertEquals(1, report.getInvalids().size());
+        assertEquals(5, report.getInvalids().get(0).index());
+        assertEquals(6, report.getModelData().getAddressBook().getPersonList().size());
+
+        Person fixed = new PersonBuilder(TypicalPersons.FIONA).withPhone("94824270").build();
+        LoadReport fixedReport = storage.overwriteRawEntryAtIndex(5, fixed);
+        assertTrue(fixedReport.getInvalids().isEmpty());
+        assertEquals(fixed, fixedReport.getModelData().getAddressBook().getPersonList().get(5));
+
+        Path exported = testFolder.resolve("exported.json");
+        storage.exportJson(exported);
+        assertEquals(fixedReport.getModelData().getAddressBook(),
+                new JsonAddressBookStorage(exported).readAddressBook().get());
+    }
+
+}
@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class KeyValueStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_afterCommits_sameContents() throws Exception {
+        Path file = testFolder.resolve("store.kv");
+        KeyValueStore store = KeyValueStore.open(file);
+        KeyValueStore.Batch batch = new KeyValueStore.Batch();
+        batch.put("a", 1, bytes("one"));
+        batch.put("a", 2, bytes("two"));
+        batch.put("b", 1, bytes("other"));
+        store.commit(batch);
+        KeyValueStore.Batch changes = new KeyValueStore.Batch();
+        changes.delete("a", 1);
+        changes.put("a", 3, bytes("three"));
+        store.commit(changes);
+        store.close();
+
+        KeyValueStore reopened = KeyValueStore.open(file);
+        assertEquals(List.of(2L, 3L), List.copyOf(reopened.copyOf("a").keySet()));
+        assertEquals("three", new String(reopened.copyOf("a").get(3L), UTF_8));
+        assertEquals("other", new String(reopened.copyOf("b").get(1L), UTF_8));
+        assertTrue(reopened.copyOf("missing").isEmpty());
+        reopened.close();
+    }
+
+    @Test
+    public void open_lastBatchCutShort_dropsOnlyThatBatch() throws Exception {
+        Path file = testFolder.resolve("store.kv");
+        KeyValueStore store = KeyValueStore.open(file);
+        KeyValueStore.Batch first = new KeyValueStore.Batch();
+        first.put("a", 1, bytes("one"));
+        store.commit(first);
+        long sizeAfterFirst = Files.size(file);
+        KeyValueStore.Batch second = new KeyValueStore.Batch();
+        second.put("a", 2, bytes("two"));
+        second.put("a", 3, bytes("three"));
+        store.commit(second);
+        store.close();
+
+        byte[] contents = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(contents, contents.length - 3));
+
+        KeyValueStore reopened = KeyValueStore.open(file);
+        assertEquals(List.of(1L), List.copyOf(reopened.copyOf("a").keySet()));
+        assertEquals(sizeAfterFirst, Files.size(file));
+
+        // later batches follow the last whole one
+        KeyValueStore.Batch third = new KeyValueStore.Batch();
+        third.put("a", 4, bytes("four"));
+        reopened.commit(third);
+        reopened.close();
+        assertEquals(List.of(1L, 4L), List.copyOf(KeyValueStore.open(file).copyOf("a").keySet()));
+    }
+
+    @Test
+    public void replaceAll_replacesEverything() throws Exception {
+        Path file = testFolder.resolve("store.kv");
+        KeyValueStore store = KeyValueStore.open(file);
+        KeyValueStore.Batch batch = new KeyValueStore.Batch();
+        batch.put("a", 1, bytes("one"));
+        batch.put("b", 1, bytes("other"));
+        store.commit(batch);
+
+        TreeMap<Long, byte[]> replacement = new TreeMap<>(Map.of(5L, bytes("five")));
+        store.replaceAll(Map.of("a", replacement));
+        store.close();
+
+        KeyValueStore reopened = KeyValueStore.open(file);
+        assertEquals(List.of(5L), List.copyOf(reopened.copyOf("a").keySet()));
+        assertTrue(reopened.copyOf("b").isEmpty());
+        reopened.close();
+    }
+
+    @Test
+    public void commit_compactionFails_batchStillSaved() throws Exception {
+        Path file = testFolder.resolve("store.kv");
+        KeyValueStore store = KeyValueStore.open(file);
+        // a directory where compaction writes the new file, so that compaction fails
+        Files.createDirectories(testFolder.resolve("store.kv.tmp").resolve("blocker"));
+        byte[] value = new byte[64 * 1024];
+        int commits = (int) (KeyValueStore.MIN_COMPACTION_SIZE / value.length) + 2;
+
+        for (int i = 0; i < commits; i++) {
+            KeyValueStore.Batch batch = new KeyValueStore.Batch();
+            batch.put("a", 1, value);
+            batch.put("a", 2, bytes("commit " + i));
+            store.commit(batch);
+        }
+        KeyValueStore.Batch last = new KeyValueStore.Batch();
+        last.put("a", 3, bytes("last"));
+        store.commit(last);
+        store.close();
+
+        KeyValueStore reopened = KeyValueStore.open(file);
+        assertEquals("commit " + (commits - 1), new String(reopened.copyOf("a").get(2L), UTF_8));
+        assertEquals("last", new String(reopened.copyOf("a").get(3L), UTF_8));
+        reopened.close();
+    }
+
+    @Test
+    public void open_notAStore_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("store.kv");
+        Files.writeString(file, "{ \"persons\": [] }");
+        assertThrows(IOException.class, () -> KeyValueStore.open(file));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class LoadReportBuilderTest {
+
+    @Test
+    public void addPersons_largeBatch_sameAsAddingOneByOne() {
+        List<JsonAdaptedPerson> records = new ArrayList<>();
+        for (int i = 0; i < 3 * PersonConversion.PARALLEL_THRESHOLD; i++) {
+            if (i % 97 == 13) {
+                records.add(record(i, "not a phone"));
+            } else if (i % 89 == 7) {
+                records.add(records.get(i / 2)); // duplicate of an earlier entry
+            } else {
+                records.add(record(i, "9" + (1000000 + i)));
+            }
+        }
+
+        LoadReportBuilder oneByOne = new LoadReportBuilder();
+        Person[] expected = new Person[records.size()];
+        for (int i = 0; i < records.size(); i++) {
+            expected[i] = oneByOne.addPerson(i, records.get(i));
+        }
+        LoadReportBuilder batched = new LoadReportBuilder();
+        Person[] actual = batched.addPersons(0, records);
+
+        assertArrayEquals(expected, actual);
+        LoadReport expectedReport = oneByOne.build();
+        LoadReport actualReport = batched.build();
+        assertEquals(expectedReport.getModelData().getAddressBook(), actualReport.getModelData().getAddressBook());
+        assertEquals(expectedReport.getInvalids().size(), actualReport.getInvalids().size());
+        for (int i = 0; i < expectedReport.getInvalids().size(); i++) {
+            LoadReport.InvalidPersonEntry expectedEntry = expectedReport.getInvalids().get(i);
+            LoadReport.InvalidPersonEntry actualEntry = actualReport.getInvalids().get(i);
+            assertEquals(expectedEntry.index(), actualEntry.index());
+            assertEquals(expectedEntry.reason(), actualEntry.reason());
+            assertEquals(expectedEntry.invalidFields(), actualEntry.invalidFields());
+        }
+    }
+
+    @Test
+    public void addPersons_continuesFromFirstIndex() {
+        LoadReportBuilder builder = new LoadReportBuilder();
+        builder.addPerson(0, record(0, "91234567"));
+        Person[] added = builder.addPersons(1, List.of(record(0, "91234567"), record(1, "bad")));
+
+        assertNull(added[0]);
+        assertNull(added[1]);
+        List<LoadReport.InvalidPersonEntry> invalids = builder.build().getInvalids();
+        assertEquals(1, invalids.get(0).index());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, invalids.get(0).reason());
+        assertEquals(2, invalids.get(1).index());
+    }
+
+    /**
+     * Returns a record whose name and email are unique to {@code i}.
+     */
+    private static JsonAdaptedPerson record(int i, String phone) {
+        StringBuilder name = new StringBuilder("Person ");
+        for (int n = i; n > 0 || name.length() == 7; n /= 26) {
+            name.append((char) ('a' + n % 26));
+        }
+        return new JsonAdaptedPerson(name.toString(), phone, "person" + i + "@example.com", "Block " + i,
+                "HDB", List.of());
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class PersonImporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_exportedCsv_samePersons() throws Exception {
+        List<Person> persons = List.of(
+                new PersonBuilder(ALICE).withAddress("123, \"Jurong\" West").withTags("a", "b").build(),
+                new PersonBuilder(BENSON).withTags().build());
+        Path file = testFolder.resolve("export.csv");
+        CsvPersonExporter.write(persons, file, written -> {});
+
+        LoadReport report = PersonImporter.read(file);
+
+        assertEquals(persons, report.getModelData().getAddressBook().getPersonList());
+        assertEquals(List.of(), report.getInvalids());
+    }
+
+    @Test
+    public void read_csvWithInvalidAndRepeatedRows_quarantinesThem() throws Exception {
+        Path file = testFolder.resolve("import.csv");
+        Files.writeString(file, "Name,Phone,Email,Address,Listing,Tags\r\n"
+                + "Alice Pauline,94351253,alice@example.com,Jurong,HDB,[friends]\r\n"
+                + "Bob Choo,not a phone,bob@example.com,Clementi,HDB,\r\n"
+                + "Alice Pauline,94351253,alice@example.com,Jurong,HDB,\r\n"
+                + "Carl Kurz,95352563\r\n");
+
+        LoadReport report = PersonImporter.read(file);
+
+        assertEquals(1, report.getModelData().getAddressBook().getPersonList().size());
+        assertEquals(List.of(1, 2, 3), report.getInvalids().stream().map(LoadReport.InvalidPersonEntry::index)
+                .toList());
+        assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, report.getInvalids().get(1).reason());
+    }
+
+    @Test
+    public void read_jsonDataFile_persons() throws Exception {
+        Path file = testFolder.resolve("backup.json");
+        new JsonAddressBookStorage(file).saveAddressBook(TypicalPersons.getTypicalAddressBook());
+
+        LoadReport report = PersonImporter.read(file);
+
+        assertEquals(TypicalPersons.getTypicalPersons(), report.getModelData().getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void read_badFile_throwsDataLoadingException() throws Exception {
+        Path noHeader = testFolder.resolve("noHeader.csv");
+        Files.writeString(noHeader, "Alice Pauline,94351253,alice@example.com,Jurong,HDB,\n");
+        Path unclosedQuote = testFolder.resolve("unclosedQuote.csv");
+        Files.writeString(unclosedQuote, "Name,Phone,Email,Address,Listing,Tags\n\"Alice,1,a@b.c,x,HDB,\n");
+
+        assertThrows(DataLoadingException.class, () -> PersonImporter.read(noHeader));
+        assertThrows(DataLoadingException.class, () -> PersonImporter.read(unclosedQuote));
+        assertThrows(DataLoadingException.class, () -> PersonImporter.read(testFolder.resolve("missing.csv")));
+        assertThrows(DataLoadingException.class, () -> PersonImporter.read(testFolder.resolve("contacts.txt")));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBookWithProperty;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Name;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class SegmentedAddressBookStorageTest {
+
+    private static final int SEGMENT_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAndRead_allInOrder_success() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        AddressBook original = getTypicalAddressBookWithProperty();
+        new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).saveAddressBook(original);
+
+        JsonAdaptedSegmentManifest manifest = readManifest(directory);
+        assertEquals(4, manifest.getPersons().size());
+        assertEquals(1, manifest.getProperties().size());
+        assertEquals(original, new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).readAddressBook().get());
+    }
+
+    @Test
+    public void save_trackedBookEdited_rewritesOnlyTouchedSegment() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directory, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBookWithProperty();
+        storage.saveAddressBook(addressBook);
+        List<String> before = segmentFiles(directory);
+
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        List<String> after = segmentFiles(directory);
+        assertEquals(before.size(), after.size());
+        List<String> unchanged = new ArrayList<>(before);
+        unchanged.retainAll(after);
+        assertEquals(before.size() - 1, unchanged.size());
+        assertEquals(addressBook, new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).readAddressBook().get());
+    }
+
+    @Test
+    public void save_trackedBookChangedInManyWays_readsBackTheSame() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directory, SEGMENT_SIZE);
+        AddressBook addressBook = getTypicalAddressBookWithProperty();
+        storage.saveAddressBook(addressBook);
+
+        addressBook.removePerson(CARL);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).readAddressBook().get());
+
+        addressBook.addPerson(HOON);
+        addressBook.addProperty(new Property(new Address("2 Moon Way"), new Price(1), new Name("Moon")));
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).readAddressBook().get());
+
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        reversed.sort(Comparator.comparing((Person person) -> person.getName().fullName).reversed());
+        addressBook.setPersons(reversed);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).readAddressBook().get());
+
+        storage.compactAddressBook();
+        assertEquals(addressBook, new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).readAddressBook().get());
+        assertEquals(readManifest(directory).getPersons().size() + readManifest(directory).getProperties().size(),
+                segmentFiles(directory).size());
+    }
+
+    @Test
+    public void readAddressBookWithReport_invalidInLaterSegment_indexInWholeBook() throws Exception {
+        Path directory = testFolder.resolve("ab");
+        new SegmentedAddressBookStorage(directory, SEGMENT_SIZE).saveAddressBook(getTypicalAddressBookWithProperty());
+        Path thirdSegment = directory.resolve(readManifest(directory).getPersons().get(2).getFile());
+        String contents = Files.readString(thirdSegment);
+        Files.writeString(thirdSegment, contents.replace("\"9482427\"", "\"not a phone\""));
+
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(directory, SEGMENT_SIZE);
+        LoadReport report = storage.readAddressBookWithReport(directory);
+        assertEquals(1, report.getInvalids().size());
+        assertEquals(5, report.getInvalids().get(0).index());
+        assertEquals(6, report.getModelData().getAddressBook().getPersonList().size());
+
+        Person fixed = new PersonBuilder(TypicalPersons.FIONA).withPhone("94824270").build();
+        LoadReport fixedReport = storage.overwriteRawEntryAtIndex(5, fixed);
+        assertTrue(fixedReport.getInvalids().isEmpty());
+        assertEquals(fixed, fixedReport.getModelData().getAddressBook().getPersonList().get(5));
+        assertNotEquals(thirdSegment.getFileName().toString(), readManifest(directory).getPersons().get(2).getFile());
+        assertEquals(fixedReport.getModelData().getAddressBook(), storage.readAddressBook().get());
+    }
+
+    private static JsonAdaptedSegmentManifest readManifest(Path directory) throws Exception {
+        return JsonUtil.readJsonFile(directory.resolve(SegmentedAddressBookStorage.MANIFEST_FILE),
+                JsonAdaptedSegmentManifest.class).get();
+    }
+
+    private static List<String> segmentFiles(Path directory) throws Exception {
+        try (var files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.equals(SegmentedAddressBookStorage.MANIFEST_FILE))
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -14,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -62,6 +65,28 @@ public class StorageManagerTest {
         Assertions.assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void requestSaveAddressBook_inBackground_readWaitsForSave() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab-background")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs-background")), true);
+        AddressBook original = seedu.address.testutil.TypicalPersons.getTypicalAddressBook();
+        backgroundStorageManager.requestSaveAddressBook(original);
+
+        ReadOnlyAddressBook retrieved = backgroundStorageManager.readAddressBook().get();
+        Assertions.assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void getSavedAddressBookVersion_afterRequestedSave_versionSaved() throws Exception {
+        AddressBook original = seedu.address.testutil.TypicalPersons.getTypicalAddressBook();
+        Assertions.assertEquals(AddressBookSnapshot.NO_VERSION, storageManager.getSavedAddressBookVersion());
+
+        storageManager.requestSaveAddressBook(original);
+
+        Assertions.assertEquals(original.getVersion(), storageManager.getSavedAddressBookVersion());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         Assertions.assertNotNull(storageManager.getAddressBookFilePath());
@@ -100,7 +125,9 @@ public class StorageManagerTest {
      */
     @Test
     public void readAddressBookWithReport_mixed_allAccounted() throws Exception {
-        Path mixed = TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json");
+        // copied, as reading a file without invalid entries writes its binary copy alongside
+        Path mixed = getTempFilePath("invalidAndValidPersonAddressBook.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), mixed);
 
         StorageManager mgr = new StorageManager(
                 new JsonAddressBookStorage(mixed),
@@ -196,6 +223,50 @@ public class StorageManagerTest {
                 "No-arg readAddressBookWithReport() must delegate using getAddressBookFilePath().");
     }
 
+    @Test
+    public void readAddressBookWithReport_fileUnchanged_reusesReport() throws Exception {
+        Path copy = getTempFilePath("cached-ab.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), copy);
+        StorageManager mgr = new StorageManager(new JsonAddressBookStorage(copy),
+                new JsonUserPrefsStorage(getTempFilePath("cached-prefs.json")));
+
+        LoadReport first = mgr.readAddressBookWithReport();
+        Assertions.assertSame(first, mgr.readAddressBookWithReport());
+        Assertions.assertSame(first, mgr.readAddressBookWithReport(copy));
+    }
+
+    @Test
+    public void readAddressBookWithReport_fileChangedOnDisk_readsAgain() throws Exception {
+        Path copy = getTempFilePath("changed-ab.json");
+        Files.copy(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"), copy);
+        StorageManager mgr = new StorageManager(new JsonAddressBookStorage(copy),
+                new JsonUserPrefsStorage(getTempFilePath("changed-prefs.json")));
+        LoadReport first = mgr.readAddressBookWithReport();
+
+        // same size and modification time, different contents
+        FileTime lastModified = Files.getLastModifiedTime(copy);
+        String contents = Files.readString(copy);
+        Files.writeString(copy, contents.replace("\"persons\"", "\"ignored\""));
+        Files.setLastModifiedTime(copy, lastModified);
+
+        LoadReport second = mgr.readAddressBookWithReport();
+        Assertions.assertNotSame(first, second);
+        Assertions.assertTrue(second.getModelData().getAddressBook().getPersonList().isEmpty());
+        Assertions.assertTrue(second.getInvalids().isEmpty());
+    }
+
+    @Test
+    public void readAddressBookWithReport_afterSave_readsAgain() throws Exception {
+        LoadReport before = storageManager.readAddressBookWithReport();
+        Assertions.assertTrue(before.getModelData().getAddressBook().getPersonList().isEmpty());
+
+        AddressBook original = seedu.address.testutil.TypicalPersons.getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+
+        LoadReport after = storageManager.readAddressBookWithReport();
+        Assertions.assertEquals(original, after.getModelData().getAddressBook());
+    }
+
     /** Counts how many person objects exist in the raw JSON "persons" array. */
     private static int countPersonsArray(Path jsonPath) throws Exception {
         ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
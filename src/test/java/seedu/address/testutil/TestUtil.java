@@ -32,6 +32,20 @@ public class TestUtil {
         return SANDBOX_FOLDER.resolve(fileName);
     }
 
+    /**
+     * Returns a different string of lowercase letters for each non-negative {@code number}, for making up many
+     * distinct names, which may hold only letters, digits and spaces.
+     */
+    public static String lettersFor(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        return letters.toString();
+    }
+
     /**
      * Returns the middle index of the person in the {@code model}'s person list.
      */
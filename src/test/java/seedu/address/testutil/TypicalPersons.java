@@ -19,6 +19,10 @@ import java.util.List;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.property.Address;
+import seedu.address.model.property.Name;
+import seedu.address.model.property.Price;
+import seedu.address.model.property.Property;
 
 /**
  * A utility class containing a list of {@code Person} objects to be used in tests.
@@ -77,6 +81,15 @@ public class TypicalPersons {
         return ab;
     }
 
+    /**
+     * Returns an {@code AddressBook} with all the typical persons and one property.
+     */
+    public static AddressBook getTypicalAddressBookWithProperty() {
+        AddressBook ab = getTypicalAddressBook();
+        ab.addProperty(new Property(new Address("1 Sunset Way"), new Price(500000), new Name("Sunset")));
+        return ab;
+    }
+
     public static List<Person> getTypicalPersons() {
         return new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA, GEORGE));
     }